@@ -0,0 +1,110 @@
+package sbe.generation.csharp;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.ir.Token;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static uk.co.real_logic.sbe.ir.GenerationUtil.collectFields;
+import static uk.co.real_logic.sbe.ir.GenerationUtil.collectGroups;
+import static uk.co.real_logic.sbe.ir.GenerationUtil.getMessageBody;
+
+/**
+ * Throughput of {@link CSharpGenerator} for synthetic schemas generating to an in-memory
+ * {@link ConcurrentStringWriterOutputManager}, which supports the concurrent outputs of parallel generation, for the
+ * whole schema and for the individual group emitters of a single message.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CSharpGeneratorBenchmark {
+    @Param("100")
+    int messageCount;
+
+    @Param("20")
+    int fieldCount;
+
+    @Param("2")
+    int groupDepth;
+
+    @Param("2")
+    int varDataCount;
+
+    @Param("10")
+    int compositeCount;
+
+    @Param("false")
+    boolean parallel;
+
+    private final ConcurrentStringWriterOutputManager outputManager = new ConcurrentStringWriterOutputManager();
+    private CSharpGenerator generator;
+    private List<Token> groups;
+    private String decoderClassName;
+    private String encoderClassName;
+
+    @Setup
+    public void setup() throws Exception {
+        final Ir ir = SyntheticSchema.ir(messageCount, fieldCount, groupDepth, varDataCount, compositeCount);
+
+        generator = new CSharpGenerator(ir, new CSharpGenerator.Options().parallel(parallel), outputManager);
+
+        final List<Token> messageTokens = ir.messages().iterator().next();
+        final List<Token> messageBody = getMessageBody(messageTokens);
+        final int groupsIndex = collectFields(messageBody, 0, new ArrayList<>());
+
+        groups = new ArrayList<>();
+        collectGroups(messageBody, groupsIndex, groups);
+
+        final String messageName = CSharpUtil.formatClassName(messageTokens.get(0).name());
+        decoderClassName = messageName + "Decoder";
+        encoderClassName = messageName + "Encoder";
+    }
+
+    @Benchmark
+    public ConcurrentStringWriterOutputManager generate() throws IOException {
+        generator.generate();
+
+        return outputManager;
+    }
+
+    @Benchmark
+    public ConcurrentStringWriterOutputManager generateTypeStubs() throws IOException {
+        generator.generateTypeStubs();
+
+        return outputManager;
+    }
+
+    @Benchmark
+    public StringWriter generateDecoderGroups() throws IOException {
+        final StringWriter out = new StringWriter();
+        generator.generateDecoderGroups(out, decoderClassName, groups, "");
+
+        return out;
+    }
+
+    @Benchmark
+    public StringWriter generateEncoderGroups() throws IOException {
+        final StringWriter out = new StringWriter();
+        generator.generateEncoderGroups(out, encoderClassName, groups, "");
+
+        return out;
+    }
+}
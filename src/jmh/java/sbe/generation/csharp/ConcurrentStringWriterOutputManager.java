@@ -0,0 +1,35 @@
+package sbe.generation.csharp;
+
+import org.agrona.generation.OutputManager;
+
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory {@link OutputManager} which supports concurrent calls to {@link #createOutput(String)}, as required by
+ * {@link CSharpGenerator} when generating in parallel.
+ */
+public final class ConcurrentStringWriterOutputManager implements OutputManager {
+    private final Map<String, StringWriter> sourceFileByName = new ConcurrentHashMap<>();
+
+    public Writer createOutput(final String name) {
+        final StringWriter stringWriter = new StringWriter();
+        sourceFileByName.put(name, stringWriter);
+
+        return stringWriter;
+    }
+
+    /**
+     * Get the source generated for a name.
+     *
+     * @param name of the generated output.
+     * @return the generated source or null if nothing was generated for the name.
+     */
+    public CharSequence getSource(final String name) {
+        final StringWriter stringWriter = sourceFileByName.get(name);
+
+        return null == stringWriter ? null : stringWriter.getBuffer();
+    }
+}
@@ -0,0 +1,197 @@
+package sbe.generation.csharp;
+
+import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.xml.IrGenerator;
+import uk.co.real_logic.sbe.xml.MessageSchema;
+import uk.co.real_logic.sbe.xml.ParserOptions;
+import uk.co.real_logic.sbe.xml.XmlSchemaParser;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Builds the {@link Ir} for a synthetic schema of a configurable size to drive the generator benchmarks.
+ * <p>
+ * Every message has the same shape: a block of fields cycling through the primitive, char array, enum, set and
+ * composite encodings, a chain of nested repeating groups each with their own fields and var-data, and trailing
+ * var-data fields.
+ */
+public final class SyntheticSchema {
+    private static final String[] PRIMITIVE_TYPES = { "int32", "uint64", "double", "int16", "float" };
+
+    private SyntheticSchema() {
+    }
+
+    /**
+     * Build the {@link Ir} for a synthetic schema.
+     *
+     * @param messageCount    number of messages in the schema.
+     * @param fieldCount      number of fields in the root block of each message and each group.
+     * @param groupDepth      depth of the chain of nested repeating groups in each message.
+     * @param varDataCount    number of var-data fields at the end of each message and each group.
+     * @param compositeCount  number of composite types, referenced in turn by the message fields.
+     * @return the {@link Ir} for the schema.
+     * @throws Exception if the generated schema can not be parsed.
+     */
+    public static Ir ir(
+            final int messageCount,
+            final int fieldCount,
+            final int groupDepth,
+            final int varDataCount,
+            final int compositeCount) throws Exception {
+        final String xml = xml(messageCount, fieldCount, groupDepth, varDataCount, compositeCount);
+        final MessageSchema schema = XmlSchemaParser.parse(
+                new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), ParserOptions.DEFAULT);
+
+        return new IrGenerator().generate(schema);
+    }
+
+    /**
+     * Build the XML for a synthetic schema.
+     *
+     * @param messageCount    number of messages in the schema.
+     * @param fieldCount      number of fields in the root block of each message and each group.
+     * @param groupDepth      depth of the chain of nested repeating groups in each message.
+     * @param varDataCount    number of var-data fields at the end of each message and each group.
+     * @param compositeCount  number of composite types, referenced in turn by the message fields.
+     * @return the XML for the schema.
+     */
+    public static String xml(
+            final int messageCount,
+            final int fieldCount,
+            final int groupDepth,
+            final int varDataCount,
+            final int compositeCount) {
+        final StringBuilder sb = new StringBuilder();
+
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n")
+                .append("<sbe:messageSchema xmlns:sbe=\"http://fixprotocol.io/2016/sbe\"")
+                .append(" package=\"synthetic\" id=\"1\" version=\"0\" byteOrder=\"littleEndian\">\n")
+                .append("    <types>\n")
+                .append("        <composite name=\"messageHeader\">\n")
+                .append("            <type name=\"blockLength\" primitiveType=\"uint16\"/>\n")
+                .append("            <type name=\"templateId\" primitiveType=\"uint16\"/>\n")
+                .append("            <type name=\"schemaId\" primitiveType=\"uint16\"/>\n")
+                .append("            <type name=\"version\" primitiveType=\"uint16\"/>\n")
+                .append("        </composite>\n")
+                .append("        <composite name=\"groupSizeEncoding\">\n")
+                .append("            <type name=\"blockLength\" primitiveType=\"uint16\"/>\n")
+                .append("            <type name=\"numInGroup\" primitiveType=\"uint16\"/>\n")
+                .append("        </composite>\n")
+                .append("        <composite name=\"varStringEncoding\">\n")
+                .append("            <type name=\"length\" primitiveType=\"uint32\" maxValue=\"1073741824\"/>\n")
+                .append("            <type name=\"varData\" primitiveType=\"uint8\" length=\"0\"")
+                .append(" characterEncoding=\"UTF-8\"/>\n")
+                .append("        </composite>\n")
+                .append("        <type name=\"Symbol\" primitiveType=\"char\" length=\"8\"")
+                .append(" characterEncoding=\"ASCII\"/>\n")
+                .append("        <enum name=\"Side\" encodingType=\"uint8\">\n")
+                .append("            <validValue name=\"BUY\">1</validValue>\n")
+                .append("            <validValue name=\"SELL\">2</validValue>\n")
+                .append("        </enum>\n")
+                .append("        <set name=\"Flags\" encodingType=\"uint16\">\n")
+                .append("            <choice name=\"first\">0</choice>\n")
+                .append("            <choice name=\"second\">1</choice>\n")
+                .append("            <choice name=\"third\">2</choice>\n")
+                .append("        </set>\n");
+
+        for (int i = 0; i < compositeCount; i++) {
+            sb.append("        <composite name=\"Composite").append(i).append("\">\n")
+                    .append("            <type name=\"mantissa\" primitiveType=\"int64\"/>\n")
+                    .append("            <type name=\"exponent\" primitiveType=\"int8\"/>\n")
+                    .append("            <ref name=\"side\" type=\"Side\"/>\n")
+                    .append("            <type name=\"code\" primitiveType=\"char\" length=\"4\"/>\n")
+                    .append("        </composite>\n");
+        }
+
+        sb.append("    </types>\n");
+
+        for (int i = 0; i < messageCount; i++) {
+            sb.append("    <sbe:message name=\"Message").append(i).append("\" id=\"").append(i + 1).append("\">\n");
+
+            int id = 1;
+            id = appendFields(sb, "        ", fieldCount, compositeCount, i, id);
+            id = appendGroups(sb, "        ", fieldCount, groupDepth, varDataCount, compositeCount, i, id);
+            appendVarData(sb, "        ", varDataCount, id);
+
+            sb.append("    </sbe:message>\n");
+        }
+
+        sb.append("</sbe:messageSchema>\n");
+
+        return sb.toString();
+    }
+
+    private static int appendFields(
+            final StringBuilder sb,
+            final String indent,
+            final int fieldCount,
+            final int compositeCount,
+            final int messageIndex,
+            final int firstId) {
+        int id = firstId;
+        for (int i = 0; i < fieldCount; i++) {
+            final String type;
+            switch (i % 4) {
+                case 0:
+                    type = PRIMITIVE_TYPES[(i / 4) % PRIMITIVE_TYPES.length];
+                    break;
+
+                case 1:
+                    type = (i / 4) % 2 == 0 ? "Symbol" : "Side";
+                    break;
+
+                case 2:
+                    type = compositeCount > 0 ? "Composite" + ((messageIndex + i) % compositeCount) : "int64";
+                    break;
+
+                default:
+                    type = "Flags";
+                    break;
+            }
+
+            sb.append(indent).append("<field name=\"field").append(i)
+                    .append("\" id=\"").append(id++).append("\" type=\"").append(type).append("\"/>\n");
+        }
+
+        return id;
+    }
+
+    private static int appendGroups(
+            final StringBuilder sb,
+            final String indent,
+            final int fieldCount,
+            final int groupDepth,
+            final int varDataCount,
+            final int compositeCount,
+            final int messageIndex,
+            final int firstId) {
+        if (groupDepth <= 0) {
+            return firstId;
+        }
+
+        int id = firstId;
+        sb.append(indent).append("<group name=\"group").append(groupDepth)
+                .append("\" id=\"").append(id++).append("\" dimensionType=\"groupSizeEncoding\">\n");
+
+        final String groupIndent = indent + "    ";
+        id = appendFields(sb, groupIndent, fieldCount, compositeCount, messageIndex, id);
+        id = appendGroups(
+                sb, groupIndent, fieldCount, groupDepth - 1, varDataCount, compositeCount, messageIndex, id);
+        id = appendVarData(sb, groupIndent, varDataCount, id);
+
+        sb.append(indent).append("</group>\n");
+
+        return id;
+    }
+
+    private static int appendVarData(final StringBuilder sb, final String indent, final int varDataCount, final int firstId) {
+        int id = firstId;
+        for (int i = 0; i < varDataCount; i++) {
+            sb.append(indent).append("<data name=\"data").append(i)
+                    .append("\" id=\"").append(id++).append("\" type=\"varStringEncoding\"/>\n");
+        }
+
+        return id;
+    }
+}
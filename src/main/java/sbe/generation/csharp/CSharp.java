@@ -1,5 +1,6 @@
 package sbe.generation.csharp;
 
+import org.agrona.generation.OutputManager;
 import uk.co.real_logic.sbe.generation.CodeGenerator;
 import uk.co.real_logic.sbe.generation.TargetCodeGenerator;
 import uk.co.real_logic.sbe.ir.Ir;
@@ -7,14 +8,100 @@ import uk.co.real_logic.sbe.ir.Ir;
 import static uk.co.real_logic.sbe.SbeTool.*;
 
 public class CSharp implements TargetCodeGenerator {
+  /**
+   * Boolean system property to generate the codecs of a schema in parallel on the common ForkJoinPool.
+   */
+  public static final String CSHARP_GENERATE_IN_PARALLEL = "sbe.csharp.generate.parallel";
+
+  /**
+   * Boolean system property to only rewrite generated files when their content has changed.
+   */
+  public static final String CSHARP_WRITE_ONLY_IF_CHANGED = "sbe.csharp.output.write.if.changed";
+
+  /**
+   * Integer system property for the number of files into which all generated types are bundled. When not set each
+   * type is generated to its own file.
+   */
+  public static final String CSHARP_OUTPUT_BUNDLE_SHARDS = "sbe.csharp.output.bundle.shards";
+
+  /**
+   * Boolean system property to also generate a ref struct decoder over a ReadOnlySpan&lt;byte&gt; for each message and
+   * composite, named with the suffix SpanDecoder. The generated code requires System.Memory.
+   */
+  public static final String CSHARP_GENERATE_SPAN_DECODERS = "sbe.csharp.generate.span.decoders";
+
+  /**
+   * Boolean system property to generate unsafe methods which read directly from the memory of the buffer rather than
+   * copying through temporary arrays. The generated code must be compiled with AllowUnsafeBlocks.
+   */
+  public static final String CSHARP_GENERATE_UNSAFE = "sbe.csharp.generate.unsafe";
+
+  /**
+   * Boolean system property to decode var-data and char array strings through a generated StringInternPool, a
+   * bounded per thread cache keyed by the encoded bytes, so repeated values do not allocate.
+   */
+  public static final String CSHARP_INTERN_STRINGS = "sbe.csharp.intern.strings";
+
+  /**
+   * Boolean system property to generate a TryValidate method on each message decoder, which checks once that the
+   * whole message lies within the buffer, and unsafe Unchecked accessors for primitive fields which then skip the
+   * per call range and bounds checks. The generated code must be compiled with AllowUnsafeBlocks.
+   */
+  public static final String CSHARP_GENERATE_TRUSTED_ACCESSORS = "sbe.csharp.generate.trusted.accessors";
+
+  /**
+   * Boolean system property to also generate a decoder for each message named with the suffix CurrentVersionDecoder,
+   * which only wraps messages of the current schema version and block length and so has no per field version checks.
+   */
+  public static final String CSHARP_GENERATE_CURRENT_VERSION_DECODERS = "sbe.csharp.generate.current.version.decoders";
+
+  /**
+   * Boolean system property to generate a lazy index of the group and var-data offsets of each message decoder, built
+   * in one pass, and a Seek method for each group and var-data field so they can be decoded in any order.
+   */
+  public static final String CSHARP_GENERATE_VAR_DATA_INDEX = "sbe.csharp.generate.var.data.index";
+
   public CodeGenerator newInstance(final Ir ir, final String outputDir) {
-    return new CSharpGenerator(
-      ir,
-      System.getProperty(JAVA_ENCODING_BUFFER_TYPE, "IMutableDirectBuffer"),
-      System.getProperty(JAVA_DECODING_BUFFER_TYPE, "IDirectBuffer"),
-      Boolean.getBoolean(JAVA_GROUP_ORDER_ANNOTATION),
-      Boolean.getBoolean(JAVA_GENERATE_INTERFACES),
-      Boolean.getBoolean(DECODE_UNKNOWN_ENUM_VALUES),
-      new CSharpOutputManager(outputDir, ir.applicableNamespace()));
+    final int bundleShards = Integer.getInteger(CSHARP_OUTPUT_BUNDLE_SHARDS, 0);
+    if (bundleShards <= 0) {
+      return newGenerator(
+        ir,
+        new CSharpOutputManager(
+          outputDir, ir.applicableNamespace(), Boolean.getBoolean(CSHARP_WRITE_ONLY_IF_CHANGED)));
+    }
+
+    final CSharpBundledOutputManager outputManager = new CSharpBundledOutputManager(
+      outputDir,
+      ir.applicableNamespace(),
+      CSharpBundledOutputManager.DEFAULT_BUNDLE_NAME,
+      bundleShards,
+      Boolean.getBoolean(CSHARP_WRITE_ONLY_IF_CHANGED));
+    final CodeGenerator generator = newGenerator(ir, outputManager);
+
+    return () -> {
+      try {
+        generator.generate();
+      } finally {
+        outputManager.close();
+      }
+    };
+  }
+
+  private static CSharpGenerator newGenerator(final Ir ir, final OutputManager outputManager) {
+    final CSharpGenerator.Options options = new CSharpGenerator.Options()
+      .mutableBuffer(System.getProperty(JAVA_ENCODING_BUFFER_TYPE, "IMutableDirectBuffer"))
+      .readOnlyBuffer(System.getProperty(JAVA_DECODING_BUFFER_TYPE, "IDirectBuffer"))
+      .groupOrderAnnotation(Boolean.getBoolean(JAVA_GROUP_ORDER_ANNOTATION))
+      .interfaces(Boolean.getBoolean(JAVA_GENERATE_INTERFACES))
+      .decodeUnknownEnumValues(Boolean.getBoolean(DECODE_UNKNOWN_ENUM_VALUES))
+      .parallel(Boolean.getBoolean(CSHARP_GENERATE_IN_PARALLEL))
+      .spanDecoders(Boolean.getBoolean(CSHARP_GENERATE_SPAN_DECODERS))
+      .unsafeCode(Boolean.getBoolean(CSHARP_GENERATE_UNSAFE))
+      .internStrings(Boolean.getBoolean(CSHARP_INTERN_STRINGS))
+      .trustedAccessors(Boolean.getBoolean(CSHARP_GENERATE_TRUSTED_ACCESSORS))
+      .currentVersionDecoders(Boolean.getBoolean(CSHARP_GENERATE_CURRENT_VERSION_DECODERS))
+      .varDataIndex(Boolean.getBoolean(CSHARP_GENERATE_VAR_DATA_INDEX));
+
+    return new CSharpGenerator(ir, options, outputManager);
   }
 }
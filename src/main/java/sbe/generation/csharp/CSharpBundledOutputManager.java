@@ -0,0 +1,269 @@
+package sbe.generation.csharp;
+
+import org.agrona.generation.OutputManager;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * {@link OutputManager} which bundles all the C# types generated for a namespace into one file, or a fixed number of
+ * sharded files, rather than a file per type. The character encoding is UTF-8.
+ * <p>
+ * Each output is buffered by name until {@link #close()}, so outputs can be created concurrently and an output
+ * created again under the same name replaces the earlier one, as it would overwrite its file when not bundling. On
+ * close each shard is streamed to its file with its outputs sorted by name, so the bundle does not depend on the order
+ * in which outputs were generated. The {@code using} directives of each output are moved inside its namespace declaration so
+ * the outputs remain valid when concatenated.
+ */
+public class CSharpBundledOutputManager implements OutputManager, Closeable {
+    /**
+     * Name of the bundle file, or prefix of the shard files, when not specified.
+     */
+    public static final String DEFAULT_BUNDLE_NAME = "Codecs";
+
+    private static final String FILE_HEADER = "/* Generated SBE (Simple Binary Encoding) message codec */\n";
+    private static final String NAMESPACE_PREFIX = "namespace ";
+    private static final String USING_PREFIX = "using ";
+
+    private final File outputDir;
+    private final String bundleName;
+    private final int shardCount;
+    private final boolean writeOnlyIfChanged;
+    private final Map<String, String> outputs = new TreeMap<>();
+
+    /**
+     * Create a new {@link OutputManager} for bundling generated C# types for a namespace into sharded files.
+     *
+     * @param baseDirName for the generated source code.
+     * @param packageName for the generated source code relative to the baseDirName.
+     * @param bundleName  of the file, or prefix for the shard files when there is more than one shard.
+     * @param shardCount  number of files over which the generated types are spread.
+     */
+    public CSharpBundledOutputManager(
+            final String baseDirName, final String packageName, final String bundleName, final int shardCount) {
+        this(baseDirName, packageName, bundleName, shardCount, false);
+    }
+
+    /**
+     * Create a new {@link OutputManager} for bundling generated C# types for a namespace into sharded files.
+     *
+     * @param baseDirName        for the generated source code.
+     * @param packageName        for the generated source code relative to the baseDirName.
+     * @param bundleName         of the file, or prefix for the shard files when there is more than one shard.
+     * @param shardCount         number of files over which the generated types are spread.
+     * @param writeOnlyIfChanged should existing shard files only be rewritten when their content differs.
+     */
+    public CSharpBundledOutputManager(
+            final String baseDirName,
+            final String packageName,
+            final String bundleName,
+            final int shardCount,
+            final boolean writeOnlyIfChanged) {
+        Objects.requireNonNull(bundleName, "bundleName");
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("shardCount must be >= 1: shardCount=" + shardCount);
+        }
+
+        this.outputDir = CSharpOutputManager.createOutputDir(baseDirName, packageName);
+        this.bundleName = bundleName;
+        this.shardCount = shardCount;
+        this.writeOnlyIfChanged = writeOnlyIfChanged;
+    }
+
+    /**
+     * Create a new output for a C# type which will be added to the bundle when the {@link Writer} is closed.
+     *
+     * @param name the name of the C# type.
+     * @return a {@link Writer} to which the source code should be written.
+     */
+    public Writer createOutput(final String name) {
+        return new BundledWriter(name);
+    }
+
+    /**
+     * Write the shard files from the outputs created since the last close. Each shard is streamed through a buffered
+     * writer, and shard files of this bundle which are no longer written, because they are empty or beyond the
+     * shard count, are deleted.
+     *
+     * @throws IOException if a shard could not be written.
+     */
+    public void close() throws IOException {
+        final List<List<String>> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+
+        synchronized (outputs) {
+            if (outputs.isEmpty()) {
+                return;
+            }
+
+            for (final Map.Entry<String, String> output : outputs.entrySet()) {
+                shards.get(Math.floorMod(output.getKey().hashCode(), shardCount)).add(output.getValue());
+            }
+
+            outputs.clear();
+        }
+
+        final Set<String> shardFileNames = new HashSet<>();
+        for (int i = 0; i < shardCount; i++) {
+            final List<String> shard = shards.get(i);
+            if (!shard.isEmpty()) {
+                final String fileName = (shardCount == 1 ? bundleName : bundleName + i) + ".cs";
+                writeShard(new File(outputDir, fileName).toPath(), shard);
+                shardFileNames.add(fileName);
+            }
+        }
+
+        deleteStaleShards(shardFileNames);
+    }
+
+    private void writeShard(final Path shardPath, final List<String> sources) throws IOException {
+        final Path writePath = writeOnlyIfChanged ?
+                shardPath.resolveSibling(shardPath.getFileName() + ".tmp") : shardPath;
+
+        try (Writer out = Files.newBufferedWriter(writePath, StandardCharsets.UTF_8)) {
+            out.write(FILE_HEADER);
+            for (final String source : sources) {
+                appendWithUsingsInNamespace(out, source);
+            }
+        }
+
+        if (writeOnlyIfChanged) {
+            if (hasSameContent(shardPath, writePath)) {
+                Files.delete(writePath);
+            } else {
+                Files.move(writePath, shardPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    private static boolean hasSameContent(final Path existing, final Path written) throws IOException {
+        if (!Files.exists(existing) || Files.size(existing) != Files.size(written)) {
+            return false;
+        }
+
+        try (InputStream existingIn = new BufferedInputStream(Files.newInputStream(existing));
+             InputStream writtenIn = new BufferedInputStream(Files.newInputStream(written))) {
+            int b;
+            do {
+                b = existingIn.read();
+                if (b != writtenIn.read()) {
+                    return false;
+                }
+            } while (-1 != b);
+        }
+
+        return true;
+    }
+
+    /**
+     * Delete the files of this bundle, named as the single bundle or as a numbered shard, which were left by an
+     * earlier generation and are not part of this one.
+     */
+    private void deleteStaleShards(final Set<String> shardFileNames) throws IOException {
+        final File[] files = outputDir.listFiles();
+        if (null == files) {
+            return;
+        }
+
+        for (final File file : files) {
+            final String fileName = file.getName();
+            if (!shardFileNames.contains(fileName) && isShardFileName(fileName)) {
+                Files.delete(file.toPath());
+            }
+        }
+    }
+
+    private boolean isShardFileName(final String fileName) {
+        if (!fileName.startsWith(bundleName) || !fileName.endsWith(".cs")) {
+            return false;
+        }
+
+        for (int i = bundleName.length(), end = fileName.length() - 3; i < end; i++) {
+            if (!Character.isDigit(fileName.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Append a generated source with the {@code using} directives which precede the namespace declaration moved to
+     * just inside it. Comments and blank lines before the namespace declaration are dropped.
+     */
+    private static void appendWithUsingsInNamespace(final Writer out, final String source) throws IOException {
+        final int namespaceIndex = indexOfLineStartingWith(source, NAMESPACE_PREFIX);
+        if (-1 == namespaceIndex) {
+            out.append('\n').append(source);
+            return;
+        }
+
+        final int namespaceLineEnd = lineEnd(source, namespaceIndex);
+        out.append('\n').append(source, namespaceIndex, namespaceLineEnd);
+
+        for (int i = 0; i < namespaceIndex; ) {
+            final int end = lineEnd(source, i);
+            if (source.startsWith(USING_PREFIX, i)) {
+                out.append(source, i, end);
+            }
+            i = end;
+        }
+
+        out.append(source, namespaceLineEnd, source.length());
+    }
+
+    private static int indexOfLineStartingWith(final String source, final String prefix) {
+        for (int i = 0, length = source.length(); i < length; i = lineEnd(source, i)) {
+            if (source.startsWith(prefix, i)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int lineEnd(final String source, final int lineStart) {
+        final int newLineIndex = source.indexOf('\n', lineStart);
+
+        return -1 == newLineIndex ? source.length() : newLineIndex + 1;
+    }
+
+    private final class BundledWriter extends StringWriter {
+        private final String name;
+        private boolean isClosed;
+
+        BundledWriter(final String name) {
+            super(8192);
+            this.name = name;
+        }
+
+        public void close() {
+            if (isClosed) {
+                return;
+            }
+
+            isClosed = true;
+            synchronized (outputs) {
+                outputs.put(name, toString());
+            }
+        }
+    }
+}
@@ -5,23 +5,32 @@ import org.agrona.generation.OutputManager;
 import uk.co.real_logic.sbe.PrimitiveType;
 import uk.co.real_logic.sbe.PrimitiveValue;
 import uk.co.real_logic.sbe.generation.CodeGenerator;
-import uk.co.real_logic.sbe.generation.Generators;
 import uk.co.real_logic.sbe.ir.*;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Function;
 
 import static sbe.generation.csharp.CSharpGenerator.CodecType.DECODER;
 import static sbe.generation.csharp.CSharpGenerator.CodecType.ENCODER;
 import static sbe.generation.csharp.CSharpUtil.*;
+import static uk.co.real_logic.sbe.generation.Generators.toLowerFirstChar;
 import static uk.co.real_logic.sbe.generation.Generators.toUpperFirstChar;
 import static uk.co.real_logic.sbe.ir.GenerationUtil.*;
 
 public class CSharpGenerator implements CodeGenerator {
     private static final String META_ATTRIBUTE_ENUM = "MetaAttribute";
+    private static final String STRING_INTERN_POOL = "StringInternPool";
+    private static final String MESSAGE_DISPATCHER = "MessageDispatcher";
+    private static final String SCHEMA_BYTE_ORDER = "SchemaByteOrder";
     private static final String BASE_INDENT = "";
     private static final String INDENT = "    ";
     private static final String GEN_COMPOSITE_DECODER_FLYWEIGHT = "ICompositeDecoderFlyweight";
@@ -37,6 +46,14 @@ public class CSharpGenerator implements CodeGenerator {
     private final boolean shouldGenerateGroupOrderAnnotation;
     private final boolean shouldGenerateInterfaces;
     private final boolean shouldDecodeUnknownEnumValues;
+    private final boolean shouldGenerateInParallel;
+    private final boolean shouldGenerateUnsafeCode;
+    private final boolean shouldInternStrings;
+    private final boolean shouldGenerateTrustedAccessors;
+    private final boolean shouldOmitVersionChecks;
+    private final boolean shouldGenerateVarDataIndex;
+    private final CSharpSpanDecoderGenerator spanDecoderGenerator;
+    private final CSharpGenerator currentVersionDecoderGenerator;
 
     public CSharpGenerator(
             final Ir ir,
@@ -46,7 +63,30 @@ public class CSharpGenerator implements CodeGenerator {
             final boolean shouldGenerateInterfaces,
             final boolean shouldDecodeUnknownEnumValues,
             final OutputManager outputManager) {
+        this(
+                ir,
+                new Options()
+                        .mutableBuffer(mutableBuffer)
+                        .readOnlyBuffer(readOnlyBuffer)
+                        .groupOrderAnnotation(shouldGenerateGroupOrderAnnotation)
+                        .interfaces(shouldGenerateInterfaces)
+                        .decodeUnknownEnumValues(shouldDecodeUnknownEnumValues),
+                outputManager);
+    }
+
+    /**
+     * Create a new C# code generator.
+     * <p>
+     * When generating in parallel the {@link OutputManager} must support concurrent calls to
+     * {@link OutputManager#createOutput(String)}, as {@link CSharpOutputManager} does.
+     *
+     * @param ir            for the messages and types.
+     * @param options       for what to generate, which are read once here.
+     * @param outputManager for generating the codecs to.
+     */
+    public CSharpGenerator(final Ir ir, final Options options, final OutputManager outputManager) {
         Verify.notNull(ir, "ir");
+        Verify.notNull(options, "options");
         Verify.notNull(outputManager, "outputManager");
 
         this.ir = ir;
@@ -58,47 +98,90 @@ public class CSharpGenerator implements CodeGenerator {
         this.readOnlyBuffer = "IDirectBuffer";
         this.fqReadOnlyBuffer = "Adaptive.Agrona";
 
-        this.shouldGenerateGroupOrderAnnotation = shouldGenerateGroupOrderAnnotation;
-        this.shouldGenerateInterfaces = shouldGenerateInterfaces;
-        this.shouldDecodeUnknownEnumValues = shouldDecodeUnknownEnumValues;
+        this.shouldGenerateGroupOrderAnnotation = options.groupOrderAnnotation();
+        this.shouldGenerateInterfaces = options.interfaces();
+        this.shouldDecodeUnknownEnumValues = options.decodeUnknownEnumValues();
+        this.shouldGenerateInParallel = options.parallel();
+        this.shouldGenerateUnsafeCode = options.unsafeCode();
+        this.shouldInternStrings = options.internStrings();
+        this.shouldGenerateTrustedAccessors = options.trustedAccessors();
+        this.shouldOmitVersionChecks = false;
+        this.shouldGenerateVarDataIndex = options.varDataIndex();
+        this.spanDecoderGenerator = options.spanDecoders() ?
+                new CSharpSpanDecoderGenerator(ir, namespace(), outputManager) : null;
+        this.currentVersionDecoderGenerator = options.currentVersionDecoders() ? new CSharpGenerator(this) : null;
+    }
+
+    /**
+     * Create a generator for the current version decoders, which has the configuration of the given generator but
+     * generates no checks against the acting version, as every field is present in the current version.
+     */
+    private CSharpGenerator(final CSharpGenerator generator) {
+        this.ir = generator.ir;
+        this.outputManager = generator.outputManager;
+
+        this.mutableBuffer = generator.mutableBuffer;
+        this.fqMutableBuffer = generator.fqMutableBuffer;
+
+        this.readOnlyBuffer = generator.readOnlyBuffer;
+        this.fqReadOnlyBuffer = generator.fqReadOnlyBuffer;
+
+        this.shouldGenerateGroupOrderAnnotation = generator.shouldGenerateGroupOrderAnnotation;
+        this.shouldGenerateInterfaces = generator.shouldGenerateInterfaces;
+        this.shouldDecodeUnknownEnumValues = generator.shouldDecodeUnknownEnumValues;
+        this.shouldGenerateInParallel = generator.shouldGenerateInParallel;
+        this.shouldGenerateUnsafeCode = generator.shouldGenerateUnsafeCode;
+        this.shouldInternStrings = generator.shouldInternStrings;
+        this.shouldGenerateTrustedAccessors = generator.shouldGenerateTrustedAccessors;
+        this.shouldOmitVersionChecks = true;
+        this.shouldGenerateVarDataIndex = generator.shouldGenerateVarDataIndex;
+        this.spanDecoderGenerator = null;
+        this.currentVersionDecoderGenerator = null;
     }
 
     private static String primitiveTypeName(final Token token) {
         return CSharpUtil.csharpTypeName(token.encoding().primitiveType());
     }
 
-    private static CharSequence generateGroupDecoderProperty(
+    private static final CSharpTemplate FLYWEIGHT_FIELD = CSharpTemplate.compile(
+            "\n" +
+            "%i    private %s _%s = new %s();\n");
+
+    private static final CSharpTemplate GROUP_ID_METHOD = CSharpTemplate.compile(
+            "\n" +
+            "%i    public static long %sId()\n" +
+            "%i    {\n" +
+            "%i        return %d;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate GROUP_SINCE_VERSION_METHOD = CSharpTemplate.compile(
+            "\n" +
+            "%i    public static int %sSinceVersion()\n" +
+            "%i    {\n" +
+            "%i        return %d;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate GROUP_DECODER_ACCESSOR = CSharpTemplate.compile(
+            "\n" +
+            "%i    public %1$s %2$s()\n" +
+            "%i    {\n" + "%3$s" +
+            "%i        _%2$s.Wrap(_parentMessage, _buffer);\n" +
+            "%i        return _%2$s;\n" +
+            "%i    }\n");
+
+    private CharSequence generateGroupDecoderProperty(
             final String groupName, final Token token, final String indent) {
         final StringBuilder sb = new StringBuilder();
         final String className = formatClassName(groupName);
         final String propertyName = formatPropertyName(token.name());
 
-        sb.append(String.format(
-                "\n" +
-                        indent + "    private %s _%s = new %s();\n",
-                className,
-                propertyName,
-                className));
+        FLYWEIGHT_FIELD.appendTo(sb, indent, className, propertyName, className);
 
-        sb.append(String.format(
-                "\n" +
-                        indent + "    public static long %sId()\n" +
-                        indent + "    {\n" +
-                        indent + "        return %d;\n" +
-                        indent + "    }\n",
-                formatPropertyName(groupName),
-                token.id()));
-
-        sb.append(String.format(
-                "\n" +
-                        indent + "    public static int %sSinceVersion()\n" +
-                        indent + "    {\n" +
-                        indent + "        return %d;\n" +
-                        indent + "    }\n",
-                formatPropertyName(groupName),
-                token.version()));
+        GROUP_ID_METHOD.appendTo(sb, indent, formatPropertyName(groupName), token.id());
 
-        final String actingVersionGuard = token.version() == 0 ?
+        GROUP_SINCE_VERSION_METHOD.appendTo(sb, indent, formatPropertyName(groupName), token.version());
+
+        final String actingVersionGuard = shouldOmitVersionChecks || token.version() == 0 ?
                 "" :
                 indent + "        if (_parentMessage._actingVersion < " + token.version() + ")\n" +
                         indent + "        {\n" +
@@ -106,33 +189,265 @@ public class CSharpGenerator implements CodeGenerator {
                         indent + "            return _" + propertyName + ";\n" +
                         indent + "        }\n\n";
 
-        sb.append(String.format(
-                "\n" +
-                        indent + "    public %1$s %2$s()\n" +
-                        indent + "    {\n" + "%3$s" +
-                        indent + "        _%2$s.Wrap(_parentMessage, _buffer);\n" +
-                        indent + "        return _%2$s;\n" +
-                        indent + "    }\n",
-                className,
-                propertyName,
-                actingVersionGuard));
+        GROUP_DECODER_ACCESSOR.appendTo(sb, indent, className, propertyName, actingVersionGuard);
+
+        GROUP_DECODER_SKIP_ACCESSOR.appendTo(
+                sb, indent, propertyName, generateSkipNotPresentCondition(token.version(), indent), className);
+
+        return sb;
+    }
+
+    private static final CSharpTemplate GROUP_DECODER_SKIP_ACCESSOR = CSharpTemplate.compile(
+            "\n" +
+            "%i    public void Skip%1$s()\n" +
+            "%i    {\n" +
+            "%2$s" +
+            "%i        _parentMessage.Limit(%3$s.Skip(_buffer, _parentMessage.Limit(), _parentMessage._actingVersion));\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate SKIP_NOT_PRESENT_CONDITION = CSharpTemplate.compile(
+            "%i        if (_parentMessage._actingVersion < %d)\n" +
+            "%i        {\n" +
+            "%i            return;\n" +
+            "%i        }\n\n");
+
+    private CharSequence generateSkipNotPresentCondition(final int sinceVersion, final String indent) {
+        if (shouldOmitVersionChecks || 0 == sinceVersion) {
+            return "";
+        }
+
+        return SKIP_NOT_PRESENT_CONDITION.render(indent, sinceVersion);
+    }
+
+    private static final CSharpTemplate GROUP_DECODER_SKIP_FIXED = CSharpTemplate.compile(
+            "%i    /// <summary>\n" +
+            "%i    /// Compute the limit after the group which starts at <paramref name=\"offset\"/> without decoding it.\n" +
+            "%i    /// </summary>\n" +
+            "%i    public static int Skip(%1$s buffer, int offset, int actingVersion)\n" +
+            "%i    {\n" +
+            "%i        int blockLength = (int)%2$s;\n" +
+            "%i        uint count = (uint)%3$s;\n\n" +
+            "%i        return offset + HEADER_SIZE + (int)(count * blockLength);\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate GROUP_DECODER_SKIP = CSharpTemplate.compile(
+            "%i    /// <summary>\n" +
+            "%i    /// Compute the limit after the group which starts at <paramref name=\"offset\"/> without decoding it.\n" +
+            "%i    /// </summary>\n" +
+            "%i    public static int Skip(%1$s buffer, int offset, int actingVersion)\n" +
+            "%i    {\n" +
+            "%i        int blockLength = (int)%2$s;\n" +
+            "%i        uint count = (uint)%3$s;\n" +
+            "%i        int limit = offset + HEADER_SIZE;\n" +
+            "%i        for (uint i = 0; i < count; i++)\n" +
+            "%i        {\n" +
+            "%i            limit = SkipEntryTail(buffer, limit + blockLength, actingVersion);\n" +
+            "%i        }\n\n" +
+            "%i        return limit;\n" +
+            "%i    }\n\n" +
+            "%i    private static int SkipEntryTail(%1$s buffer, int limit, int actingVersion)\n" +
+            "%i    {\n" +
+            "%4$s\n" +
+            "%i        return limit;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate GROUP_DECODER_AT = CSharpTemplate.compile(
+            "\n" +
+            "%i    /// <summary>\n" +
+            "%i    /// Move to the entry at <paramref name=\"index\"/> as if it had been reached with <see cref=\"Next\"/>, which\n" +
+            "%i    /// then continues from the entry after it. The entries of the group have a fixed length so the entry is\n" +
+            "%i    /// found without reading those before it.\n" +
+            "%i    /// </summary>\n" +
+            "%i    public %1$s At(int index)\n" +
+            "%i    {\n" +
+            "%i        if ((uint)index >= _count)\n" +
+            "%i        {\n" +
+            "%i            throw new IndexOutOfRangeException();\n" +
+            "%i        }\n\n" +
+            "%i        _offset = _dimensions.Offset() + HEADER_SIZE + (index * _blockLength);\n" +
+            "%i        _parentMessage.Limit(_offset + _blockLength);\n" +
+            "%i        _index = index;\n\n" +
+            "%i        return this;\n" +
+            "%i    }\n\n" +
+            "%i    /// <summary>\n" +
+            "%i    /// Offset of the entry at <paramref name=\"index\"/>, found without moving the decoder.\n" +
+            "%i    /// </summary>\n" +
+            "%i    public int EntryOffset(int index)\n" +
+            "%i    {\n" +
+            "%i        if ((uint)index >= _count)\n" +
+            "%i        {\n" +
+            "%i            throw new IndexOutOfRangeException();\n" +
+            "%i        }\n\n" +
+            "%i        return _dimensions.Offset() + HEADER_SIZE + (index * _blockLength);\n" +
+            "%i    }\n\n" +
+            "%i    /// <summary>\n" +
+            "%i    /// View of the entry at <paramref name=\"index\"/>. Unlike <see cref=\"At\"/> neither the decoder nor the\n" +
+            "%i    /// limit of the message move, so views of any entries may be held and read at the same time.\n" +
+            "%i    /// </summary>\n" +
+            "%i    public %2$s this[int index] => new %2$s(_parentMessage, _buffer, EntryOffset(index));\n\n" +
+            "%i    /// <summary>\n" +
+            "%i    /// Read only view of a single entry of the group. Composite and set fields are wrapped by a flyweight\n" +
+            "%i    /// supplied by the caller so that views share no state.\n" +
+            "%i    /// </summary>\n" +
+            "%i    public readonly struct %2$s\n" +
+            "%i    {\n" +
+            "%i        private readonly %3$s _parentMessage;\n" +
+            "%i        private readonly %4$s _buffer;\n" +
+            "%i        private readonly int _offset;\n\n" +
+            "%i        public %2$s(%3$s parentMessage, %4$s buffer, int offset)\n" +
+            "%i        {\n" +
+            "%i            _parentMessage = parentMessage;\n" +
+            "%i            _buffer = buffer;\n" +
+            "%i            _offset = offset;\n" +
+            "%i        }\n\n" +
+            "%i        public int Offset => _offset;\n" +
+            "%5$s" +
+            "%i    }\n");
+
+    private static final CSharpTemplate ENTRY_FLYWEIGHT_ACCESSOR = CSharpTemplate.compile(
+            "\n" +
+            "%i    public %1$s %2$s(%1$s decoder)\n" +
+            "%i    {\n" +
+            "%3$s" +
+            "%i        decoder.Wrap(_buffer, _offset + %4$d);\n" +
+            "%i        return decoder;\n" +
+            "%i    }\n");
+
+    /**
+     * Generate the accessors of a group entry view, which match those of the group decoder except that composite
+     * and set fields wrap a flyweight passed by the caller rather than one held by the view.
+     */
+    private CharSequence generateEntryFields(final List<Token> tokens, final String indent) {
+        final StringBuilder sb = new StringBuilder();
+
+        for (int i = 0, size = tokens.size(); i < size; ) {
+            final Token fieldToken = tokens.get(i);
+            if (fieldToken.signal() != Signal.BEGIN_FIELD) {
+                ++i;
+                continue;
+            }
+
+            final Token typeToken = tokens.get(i + 1);
+            final String propertyName = formatPropertyName(fieldToken.name());
+
+            switch (typeToken.signal()) {
+                case ENCODING:
+                    if (typeToken.isConstantEncoding()) {
+                        sb.append(generateConstPropertyMethods(propertyName, typeToken, indent));
+                    } else {
+                        sb.append(generatePrimitivePropertyDecodeMethods(false, propertyName, typeToken, indent));
+                    }
+                    break;
+
+                case BEGIN_ENUM:
+                    sb.append(generateEnumDecoder(false, fieldToken, propertyName, typeToken, indent));
+                    break;
+
+                case BEGIN_SET:
+                case BEGIN_COMPOSITE:
+                    ENTRY_FLYWEIGHT_ACCESSOR.appendTo(
+                            sb,
+                            indent,
+                            decoderName(formatClassName(typeToken.name())),
+                            propertyName,
+                            generatePropertyNotPresentCondition(false, DECODER, typeToken.version(), indent),
+                            typeToken.offset());
+                    break;
+            }
+
+            i += fieldToken.componentTokenCount();
+        }
+
+        if (sb.length() > 1 && sb.charAt(sb.length() - 2) == '\n') {
+            sb.setLength(sb.length() - 1);
+        }
 
         return sb;
     }
 
+    private static final CSharpTemplate SKIP_NESTED_GROUP = CSharpTemplate.compile(
+            "%i        limit = %s.Skip(buffer, limit, actingVersion);\n");
+
+    private static final CSharpTemplate SKIP_VAR_DATA = CSharpTemplate.compile(
+            "%i        limit += %d + (int)%s;\n");
+
+    private static final CSharpTemplate SKIP_SINCE_VERSION_GUARD = CSharpTemplate.compile(
+            "%i        if (actingVersion >= %d)\n" +
+            "%i        {\n" +
+            "%s" +
+            "%i        }\n");
+
+    private CharSequence generateGroupDecoderSkip(
+            final Token blockLengthToken,
+            final Token numInGroupToken,
+            final List<Token> groups,
+            final List<Token> varData,
+            final String indent) {
+        final String blockLengthGet =
+                generateValidationGet(blockLengthToken, "offset + " + blockLengthToken.offset());
+        final String numInGroupGet = generateValidationGet(numInGroupToken, "offset + " + numInGroupToken.offset());
+
+        if (groups.isEmpty() && varData.isEmpty()) {
+            return GROUP_DECODER_SKIP_FIXED.render(indent, readOnlyBuffer, blockLengthGet, numInGroupGet);
+        }
+
+        final StringBuilder entryTail = new StringBuilder();
+        for (int i = 0, size = groups.size(); i < size; i++) {
+            final Token groupToken = groups.get(i);
+            final int sinceVersion = groupToken.version();
+            appendSkip(
+                    entryTail,
+                    sinceVersion,
+                    SKIP_NESTED_GROUP.render(
+                            0 == sinceVersion ? indent : indent + INDENT,
+                            decoderName(formatClassName(groupToken.name()))),
+                    indent);
+
+            i = findEndSignal(groups, i, Signal.END_GROUP, groupToken.name());
+        }
+
+        for (int i = 0, size = varData.size(); i < size; ) {
+            final Token varDataToken = varData.get(i);
+            final Token lengthToken = varData.get(i + 2);
+            final int sinceVersion = varDataToken.version();
+            appendSkip(
+                    entryTail,
+                    sinceVersion,
+                    SKIP_VAR_DATA.render(
+                            0 == sinceVersion ? indent : indent + INDENT,
+                            lengthToken.encodedLength(),
+                            generateValidationGet(lengthToken, "limit")),
+                    indent);
+
+            i += varDataToken.componentTokenCount();
+        }
+
+        return GROUP_DECODER_SKIP.render(indent, readOnlyBuffer, blockLengthGet, numInGroupGet, entryTail);
+    }
+
+    private static void appendSkip(
+            final StringBuilder sb, final int sinceVersion, final CharSequence skip, final String indent) {
+        if (0 == sinceVersion) {
+            sb.append(skip);
+        } else {
+            SKIP_SINCE_VERSION_GUARD.appendTo(sb, indent, sinceVersion, skip);
+        }
+    }
+
+    private static final CSharpTemplate ENUM_FILE_HEADER = CSharpTemplate.compile(
+            "/* Generated SBE (Simple Binary Encoding) message codec */\n" +
+            "namespace %s {\n\n");
+
     private static CharSequence generateEnumFileHeader(final String packageName) {
-        return String.format(
-                "/* Generated SBE (Simple Binary Encoding) message codec */\n" +
-                        "namespace %s {\n\n",
-                packageName);
+        return ENUM_FILE_HEADER.render(BASE_INDENT, packageName);
     }
 
+    private static final CSharpTemplate CLASS_DECLARATION = CSharpTemplate.compile(
+            "public class %s%s\n" +
+            "{\n");
+
     private static CharSequence generateDeclaration(final String className, final String implementsString) {
-        return String.format(
-                "public class %s%s\n" +
-                        "{\n",
-                className,
-                implementsString);
+        return CLASS_DECLARATION.render(BASE_INDENT, className, implementsString);
     }
 
     private static CharSequence generateEnumDeclaration(
@@ -151,73 +466,76 @@ public class CSharpGenerator implements CodeGenerator {
         return result;
     }
 
-    private static CharSequence generateArrayFieldNotPresentCondition(final int sinceVersion, final String indent) {
-        if (0 == sinceVersion) {
+    private static final CSharpTemplate ARRAY_FIELD_NOT_PRESENT_CONDITION = CSharpTemplate.compile(
+            "%i        if (_parentMessage._actingVersion < %d)\n" +
+            "%i        {\n" +
+            "%i            return 0;\n" +
+            "%i        }\n\n");
+
+    private CharSequence generateArrayFieldNotPresentCondition(final int sinceVersion, final String indent) {
+        if (shouldOmitVersionChecks || 0 == sinceVersion) {
             return "";
         }
 
-        return String.format(
-                indent + "        if (_parentMessage._actingVersion < %d)\n" +
-                        indent + "        {\n" +
-                        indent + "            return 0;\n" +
-                        indent + "        }\n\n",
-                sinceVersion);
+        return ARRAY_FIELD_NOT_PRESENT_CONDITION.render(indent, sinceVersion);
     }
 
-    private static CharSequence generateStringNotPresentCondition(final int sinceVersion, final String indent) {
-        if (0 == sinceVersion) {
+    private static final CSharpTemplate STRING_NOT_PRESENT_CONDITION = CSharpTemplate.compile(
+            "%i        if (_parentMessage._actingVersion < %d)\n" +
+            "%i        {\n" +
+            "%i            return \"\";\n" +
+            "%i        }\n\n");
+
+    private CharSequence generateStringNotPresentCondition(final int sinceVersion, final String indent) {
+        if (shouldOmitVersionChecks || 0 == sinceVersion) {
             return "";
         }
 
-        return String.format(
-                indent + "        if (_parentMessage._actingVersion < %d)\n" +
-                        indent + "        {\n" +
-                        indent + "            return \"\";\n" +
-                        indent + "        }\n\n",
-                sinceVersion);
+        return STRING_NOT_PRESENT_CONDITION.render(indent, sinceVersion);
     }
 
-    private static CharSequence generatePropertyNotPresentCondition(
+    private static final CSharpTemplate PROPERTY_NOT_PRESENT_CONDITION = CSharpTemplate.compile(
+            "%i        if (_parentMessage._actingVersion < %d)\n" +
+            "%i        {\n" +
+            "%i            return null;\n" +
+            "%i        }\n\n");
+
+    private CharSequence generatePropertyNotPresentCondition(
             final boolean inComposite, final CodecType codecType, final int sinceVersion, final String indent) {
-        if (inComposite || codecType == ENCODER || 0 == sinceVersion) {
+        if (inComposite || codecType == ENCODER || shouldOmitVersionChecks || 0 == sinceVersion) {
             return "";
         }
 
-        return String.format(
-                indent + "        if (_parentMessage._actingVersion < %d)\n" +
-                        indent + "        {\n" +
-                        indent + "            return null;\n" +
-                        indent + "        }\n\n",
-                sinceVersion);
+        return PROPERTY_NOT_PRESENT_CONDITION.render(indent, sinceVersion);
     }
 
+    private static final CSharpTemplate ARRAY_LENGTH_METHOD = CSharpTemplate.compile(
+            "\n" +
+            "%i    public static int %sLength()\n" +
+            "%i    {\n" +
+            "%i        return %d;\n" +
+            "%i    }\n\n");
+
     private static void generateArrayLengthMethod(
             final String propertyName, final String indent, final int fieldLength, final StringBuilder sb) {
-        sb.append(String.format(
-                "\n" +
-                        indent + "    public static int %sLength()\n" +
-                        indent + "    {\n" +
-                        indent + "        return %d;\n" +
-                        indent + "    }\n\n",
-                propertyName,
-                fieldLength));
+        ARRAY_LENGTH_METHOD.appendTo(sb, indent, propertyName, fieldLength);
     }
 
     private static int sizeOfPrimitive(final Encoding encoding) {
         return encoding.primitiveType().size();
     }
 
+    private static final CSharpTemplate CHARACTER_ENCODING_METHOD = CSharpTemplate.compile(
+            "\n" +
+            "%i    public static string %sCharacterEncoding()\n" +
+            "%i    {\n" +
+            "%i        return \"%s\";\n" +
+            "%i    }\n");
+
     private static void generateCharacterEncodingMethod(
             final StringBuilder sb, final String propertyName, final String characterEncoding, final String indent) {
         if (null != characterEncoding) {
-            sb.append(String.format(
-                    "\n" +
-                            indent + "    public static string %sCharacterEncoding()\n" +
-                            indent + "    {\n" +
-                            indent + "        return \"%s\";\n" +
-                            indent + "    }\n",
-                    formatPropertyName(propertyName),
-                    characterEncoding));
+            CHARACTER_ENCODING_METHOD.appendTo(sb, indent, formatPropertyName(propertyName), characterEncoding);
         }
     }
 
@@ -234,76 +552,81 @@ public class CSharpGenerator implements CodeGenerator {
         return values;
     }
 
+    private static final CSharpTemplate FIXED_FLYWEIGHT_CODE = CSharpTemplate.compile(
+            "    public const int ENCODED_LENGTH = %2$d;\n" +
+            "    public const %4$s SCHEMA_ID = %5$s;\n" +
+            "    public const %6$s SCHEMA_VERSION = %7$s;\n\n" +
+            "    private %3$s _buffer;\n" +
+            "    private int _offset;\n\n" +
+            "    public %1$s Wrap(%3$s buffer, int offset)\n" +
+            "    {\n" +
+            "        this._buffer = buffer;\n" +
+            "        this._offset = offset;\n\n" +
+            "        return this;\n" +
+            "    }\n\n" +
+            "    public %3$s Buffer()\n" +
+            "    {\n" +
+            "        return _buffer;\n" +
+            "    }\n\n" +
+            "    public int Offset()\n" +
+            "    {\n" +
+            "        return _offset;\n" +
+            "    }\n\n" +
+            "    public int EncodedLength()\n" +
+            "    {\n" +
+            "        return ENCODED_LENGTH;\n" +
+            "    }\n");
+
     private CharSequence generateFixedFlyweightCode(
             final String className, final int size, final String bufferImplementation) {
 
         final HeaderStructure headerStructure = ir.headerStructure();
         final String schemaIdType = csharpTypeName(headerStructure.schemaIdType());
         final String schemaVersionType = csharpTypeName(headerStructure.schemaVersionType());
-        return String.format(
-                "    public const int ENCODED_LENGTH = %2$d;\n" +
-                "    public const %4$s SCHEMA_ID = %5$s;\n" +
-                "    public const %6$s SCHEMA_VERSION = %7$s;\n\n" +
-                        "    private %3$s _buffer;\n" +
-                        "    private int _offset;\n\n" +
-                        "    public %1$s Wrap(%3$s buffer, int offset)\n" +
-                        "    {\n" +
-                        "        this._buffer = buffer;\n" +
-                        "        this._offset = offset;\n\n" +
-                        "        return this;\n" +
-                        "    }\n\n" +
-                        "    public %3$s Buffer()\n" +
-                        "    {\n" +
-                        "        return _buffer;\n" +
-                        "    }\n\n" +
-                        "    public int Offset()\n" +
-                        "    {\n" +
-                        "        return _offset;\n" +
-                        "    }\n\n" +
-                        "    public int EncodedLength()\n" +
-                        "    {\n" +
-                        "        return ENCODED_LENGTH;\n" +
-                        "    }\n",
+        return FIXED_FLYWEIGHT_CODE.render(
+                BASE_INDENT,
                 className,
                 size,
                 bufferImplementation,
                 schemaIdType,
                 generateLiteral(headerStructure.schemaIdType(), Integer.toString(ir.id())),
                 schemaVersionType,
-                generateLiteral(headerStructure.schemaVersionType(), Integer.toString(ir.version()))
-                );
+                generateLiteral(headerStructure.schemaVersionType(), Integer.toString(ir.version())));
     }
 
+    private static final CSharpTemplate COMPOSITE_FLYWEIGHT_CODE = CSharpTemplate.compile(
+            "    public const int ENCODED_LENGTH = %2$d;\n" +
+            "    public const %5$s SCHEMA_ID = %6$s;\n" +
+            "    public const %7$s SCHEMA_VERSION = %8$s;\n\n" +
+            "    private int _offset;\n" +
+            "    private %3$s _buffer;\n\n" +
+            "    public %4$s Wrap(%3$s buffer, int offset)\n" +
+            "    {\n" +
+            "        this._buffer = buffer;\n" +
+            "        this._offset = offset;\n\n" +
+            "        return this;\n" +
+            "    }\n\n" +
+            "    public %3$s Buffer()\n" +
+            "    {\n" +
+            "        return _buffer;\n" +
+            "    }\n\n" +
+            "    public int Offset()\n" +
+            "    {\n" +
+            "        return _offset;\n" +
+            "    }\n\n" +
+            "    public int EncodedLength()\n" +
+            "    {\n" +
+            "        return ENCODED_LENGTH;\n" +
+            "    }\n");
+
     private CharSequence generateCompositeFlyweightCode(
             final String className, final int size, final String bufferImplementation, final String compositeReturnType) {
 
         final HeaderStructure headerStructure = ir.headerStructure();
         final String schemaIdType = csharpTypeName(headerStructure.schemaIdType());
         final String schemaVersionType = csharpTypeName(headerStructure.schemaVersionType());
-        return String.format(
-                "    public const int ENCODED_LENGTH = %2$d;\n" +
-                "    public const %5$s SCHEMA_ID = %6$s;\n" +
-                "    public const %7$s SCHEMA_VERSION = %8$s;\n\n" +
-                        "    private int _offset;\n" +
-                        "    private %3$s _buffer;\n\n" +
-                        "    public %4$s Wrap(%3$s buffer, int offset)\n" +
-                        "    {\n" +
-                        "        this._buffer = buffer;\n" +
-                        "        this._offset = offset;\n\n" +
-                        "        return this;\n" +
-                        "    }\n\n" +
-                        "    public %3$s Buffer()\n" +
-                        "    {\n" +
-                        "        return _buffer;\n" +
-                        "    }\n\n" +
-                        "    public int Offset()\n" +
-                        "    {\n" +
-                        "        return _offset;\n" +
-                        "    }\n\n" +
-                        "    public int EncodedLength()\n" +
-                        "    {\n" +
-                        "        return ENCODED_LENGTH;\n" +
-                        "    }\n",
+        return COMPOSITE_FLYWEIGHT_CODE.render(
+                BASE_INDENT,
                 className,
                 size,
                 bufferImplementation,
@@ -314,76 +637,80 @@ public class CSharpGenerator implements CodeGenerator {
                 generateLiteral(headerStructure.schemaVersionType(), Integer.toString(ir.version())));
     }
 
+    private static final CSharpTemplate FIELD_ID_METHOD = CSharpTemplate.compile(
+            "\n" +
+            "%i    public static int %sId()\n" +
+            "%i    {\n" +
+            "%i        return %d;\n" +
+            "%i    }\n");
+
     private static void generateFieldIdMethod(final StringBuilder sb, final Token token, final String indent) {
-        sb.append(String.format(
-                "\n" +
-                        indent + "    public static int %sId()\n" +
-                        indent + "    {\n" +
-                        indent + "        return %d;\n" +
-                        indent + "    }\n",
-                formatPropertyName(token.name()),
-                token.id()));
+        FIELD_ID_METHOD.appendTo(sb, indent, formatPropertyName(token.name()), token.id());
     }
 
+    private static final CSharpTemplate ENCODING_OFFSET_METHOD = CSharpTemplate.compile(
+            "\n" +
+            "%i    public static int %sEncodingOffset()\n" +
+            "%i    {\n" +
+            "%i        return %d;\n" +
+            "%i    }\n");
+
     private static void generateEncodingOffsetMethod(
             final StringBuilder sb, final String name, final int offset, final String indent) {
-        sb.append(String.format(
-                "\n" +
-                        indent + "    public static int %sEncodingOffset()\n" +
-                        indent + "    {\n" +
-                        indent + "        return %d;\n" +
-                        indent + "    }\n",
-                formatPropertyName(name),
-                offset));
+        ENCODING_OFFSET_METHOD.appendTo(sb, indent, formatPropertyName(name), offset);
     }
 
+    private static final CSharpTemplate ENCODING_LENGTH_METHOD = CSharpTemplate.compile(
+            "\n" +
+            "%i    public static int %sEncodingLength()\n" +
+            "%i    {\n" +
+            "%i        return %d;\n" +
+            "%i    }\n");
+
     private static void generateEncodingLengthMethod(
             final StringBuilder sb, final String name, final int length, final String indent) {
-        sb.append(String.format(
-                "\n" +
-                        indent + "    public static int %sEncodingLength()\n" +
-                        indent + "    {\n" +
-                        indent + "        return %d;\n" +
-                        indent + "    }\n",
-                formatPropertyName(name),
-                length));
+        ENCODING_LENGTH_METHOD.appendTo(sb, indent, formatPropertyName(name), length);
     }
 
+    private static final CSharpTemplate FIELD_SINCE_VERSION_METHOD = CSharpTemplate.compile(
+            "\n" +
+            "%i    public static int %sSinceVersion()\n" +
+            "%i    {\n" +
+            "%i        return %d;\n" +
+            "%i    }\n");
+
     private static void generateFieldSinceVersionMethod(final StringBuilder sb, final Token token, final String indent) {
-        sb.append(String.format(
-                "\n" +
-                        indent + "    public static int %sSinceVersion()\n" +
-                        indent + "    {\n" +
-                        indent + "        return %d;\n" +
-                        indent + "    }\n",
-                formatPropertyName(token.name()),
-                token.version()));
+        FIELD_SINCE_VERSION_METHOD.appendTo(sb, indent, formatPropertyName(token.name()), token.version());
     }
 
+    private static final CSharpTemplate FIELD_META_ATTRIBUTE_METHOD = CSharpTemplate.compile(
+            "\n" +
+            "%i    public static string %sMetaAttribute(MetaAttribute metaAttribute)\n" +
+            "%i    {\n" +
+            "%i        switch (metaAttribute)\n" +
+            "%i        {\n" +
+            "%i            case MetaAttribute.EPOCH: return \"%s\";\n" +
+            "%i            case MetaAttribute.TIME_UNIT: return \"%s\";\n" +
+            "%i            case MetaAttribute.SEMANTIC_TYPE: return \"%s\";\n" +
+            "%i            case MetaAttribute.PRESENCE: return \"%s\";\n" +
+            "%i        }\n\n" +
+            "%i        return \"\";\n" +
+            "%i    }\n");
+
     private static void generateFieldMetaAttributeMethod(final StringBuilder sb, final Token token, final String indent) {
         final Encoding encoding = token.encoding();
         final String epoch = encoding.epoch() == null ? "" : encoding.epoch();
         final String timeUnit = encoding.timeUnit() == null ? "" : encoding.timeUnit();
         final String semanticType = encoding.semanticType() == null ? "" : encoding.semanticType();
 
-        sb.append(String.format(
-                "\n" +
-                        indent + "    public static string %sMetaAttribute(MetaAttribute metaAttribute)\n" +
-                        indent + "    {\n" +
-                        indent + "        switch (metaAttribute)\n" +
-                        indent + "        {\n" +
-                        indent + "            case MetaAttribute.EPOCH: return \"%s\";\n" +
-                        indent + "            case MetaAttribute.TIME_UNIT: return \"%s\";\n" +
-                        indent + "            case MetaAttribute.SEMANTIC_TYPE: return \"%s\";\n" +
-                        indent + "            case MetaAttribute.PRESENCE: return \"%s\";\n" +
-                        indent + "        }\n\n" +
-                        indent + "        return \"\";\n" +
-                        indent + "    }\n",
+        FIELD_META_ATTRIBUTE_METHOD.appendTo(
+                sb,
+                indent,
                 formatPropertyName(token.name()),
                 epoch,
                 timeUnit,
                 semanticType,
-                encoding.presence().toString().toLowerCase()));
+                encoding.presence().toString().toLowerCase());
     }
 
     private String encoderName(final String className) {
@@ -402,21 +729,17 @@ public class CSharpGenerator implements CodeGenerator {
         }
     }
 
-    private String generateDecoderExplicitInterface() {
+    private static final CSharpTemplate DECODER_EXPLICIT_INTERFACE = CSharpTemplate.compile(
+            "%1$s %1$s.Wrap(%2$s buffer, int offset)\n" +
+            "    {\n" +
+            "        return Wrap(buffer, offset);\n" +
+            "    }");
+
+    private CharSequence generateDecoderExplicitInterface() {
         if (!shouldGenerateInterfaces) {
             return "";
         } else {
-            return String.format("%1$s %1$s.Wrap(%2$s buffer, int offset)\n" +
-                            "    {\n" +
-                            "        return Wrap(buffer, offset);\n" +
-                            "    }",
-                    "IEncoderFlyweight",
-                    mutableBuffer
-
-
-            );
-
-
+            return DECODER_EXPLICIT_INTERFACE.render(BASE_INDENT, "IEncoderFlyweight", mutableBuffer);
         }
     }
 
@@ -426,44 +749,126 @@ public class CSharpGenerator implements CodeGenerator {
 
     public void generateTypeStubs() throws IOException {
         generateMetaAttributeEnum();
+        generateSchemaByteOrder();
 
-        for (final List<Token> tokens : ir.types()) {
-            switch (tokens.get(0).signal()) {
-                case BEGIN_ENUM:
-                    generateEnum(tokens);
-                    break;
-
-                case BEGIN_SET:
-                    generateBitSet(tokens);
-                    break;
+        if (shouldInternStrings) {
+            generateStringInternPool();
+        }
 
-                case BEGIN_COMPOSITE:
-                    generateComposite(tokens);
-                    break;
-            }
+        for (final List<Token> tokens : ir.types()) {
+            generateTypeStub(tokens);
         }
     }
 
     public void generate() throws IOException {
+        if (shouldGenerateInParallel) {
+            generateInParallel();
+            return;
+        }
+
         generateTypeStubs();
         generateMessageHeaderStub();
 
         for (final List<Token> tokens : ir.messages()) {
-            final Token msgToken = tokens.get(0);
-            final List<Token> messageBody = getMessageBody(tokens);
+            generateMessage(tokens);
+        }
 
-            int i = 0;
-            final List<Token> fields = new ArrayList<>();
-            i = collectFields(messageBody, i, fields);
+        generateMessageDispatcher();
+    }
 
-            final List<Token> groups = new ArrayList<>();
-            i = collectGroups(messageBody, i, groups);
+    private void generateInParallel() throws IOException {
+        // The header composite may also be listed in the types so generate it up front to avoid two
+        // tasks writing the same output concurrently.
+        generateMessageHeaderStub();
 
-            final List<Token> varData = new ArrayList<>();
-            collectVarData(messageBody, i, varData);
+        final List<GenerationTask> tasks = new ArrayList<>();
+        tasks.add(this::generateMetaAttributeEnum);
+        tasks.add(this::generateSchemaByteOrder);
+
+        if (shouldInternStrings) {
+            tasks.add(this::generateStringInternPool);
+        }
+
+        for (final List<Token> tokens : ir.types()) {
+            tasks.add(() -> generateTypeStub(tokens));
+        }
+
+        for (final List<Token> tokens : ir.messages()) {
+            tasks.add(() -> generateMessage(tokens));
+        }
+
+        tasks.add(this::generateMessageDispatcher);
+
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        final List<ForkJoinTask<Void>> forks = new ArrayList<>(tasks.size());
+        for (final GenerationTask task : tasks) {
+            forks.add(pool.submit(() ->
+            {
+                task.generate();
+                return null;
+            }));
+        }
 
-            generateDecoder(BASE_INDENT, fields, groups, varData, msgToken);
-            generateEncoder(BASE_INDENT, fields, groups, varData, msgToken);
+        for (final ForkJoinTask<Void> fork : forks) {
+            try {
+                fork.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted while generating codecs", ex);
+            } catch (final ExecutionException ex) {
+                final Throwable cause = ex.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+
+    private void generateTypeStub(final List<Token> tokens) throws IOException {
+        switch (tokens.get(0).signal()) {
+            case BEGIN_ENUM:
+                generateEnum(tokens);
+                break;
+
+            case BEGIN_SET:
+                generateBitSet(tokens);
+                break;
+
+            case BEGIN_COMPOSITE:
+                generateComposite(tokens);
+                break;
+        }
+    }
+
+    private void generateMessage(final List<Token> tokens) throws IOException {
+        final Token msgToken = tokens.get(0);
+        final List<Token> messageBody = getMessageBody(tokens);
+
+        int i = 0;
+        final List<Token> fields = new ArrayList<>();
+        i = collectFields(messageBody, i, fields);
+
+        final List<Token> groups = new ArrayList<>();
+        i = collectGroups(messageBody, i, groups);
+
+        final List<Token> varData = new ArrayList<>();
+        collectVarData(messageBody, i, varData);
+
+        generateDecoder(BASE_INDENT, fields, groups, varData, msgToken);
+        generateEncoder(BASE_INDENT, fields, groups, varData, msgToken);
+
+        if (null != currentVersionDecoderGenerator) {
+            currentVersionDecoderGenerator.generateDecoder(BASE_INDENT, fields, groups, varData, msgToken);
+        }
+
+        if (null != spanDecoderGenerator) {
+            spanDecoderGenerator.generateMessage(msgToken, fields, groups, varData);
         }
     }
 
@@ -483,13 +888,9 @@ public class CSharpGenerator implements CodeGenerator {
             out.append(generateDeclaration(className, implementsString));
             out.append(generateDecoderExplicitInterface());
             out.append(generateEncoderFlyweightCode(className, msgToken));
-            out.append(generateEncoderFields(className, fields, indent));
-
-            final StringBuilder sb = new StringBuilder();
-            generateEncoderGroups(sb, className, groups, indent);
-            out.append(sb);
-
-            out.append(generateEncoderVarData(className, varData, indent));
+            generateEncoderFields(out, className, fields, indent);
+            generateEncoderGroups(out, className, groups, indent);
+            generateEncoderVarData(out, className, varData, indent);
 
             out.append(generateEncoderDisplay(formatClassName(decoderName(msgToken.name())), indent));
 
@@ -504,7 +905,8 @@ public class CSharpGenerator implements CodeGenerator {
             final List<Token> groups,
             final List<Token> varData,
             final Token msgToken) throws IOException {
-        final String className = formatClassName(decoderName(msgToken.name()));
+        final String className = shouldOmitVersionChecks ?
+                formatClassName(msgToken.name() + "CurrentVersionDecoder") : formatClassName(decoderName(msgToken.name()));
         final String implementsString = implementsInterface(GEN_MESSAGE_DECODER_FLYWEIGHT);
 
         try (Writer out = outputManager.createOutput(className)) {
@@ -512,27 +914,331 @@ public class CSharpGenerator implements CodeGenerator {
 
             generateAnnotations(indent, className, groups, out, 0, this::decoderName);
             out.append(generateDeclaration(className, implementsString));
-            out.append(generateDecoderFlyweightCode(className, msgToken));
-            out.append(generateDecoderFields(fields, indent));
-
-            final StringBuilder sb = new StringBuilder();
-            generateDecoderGroups(sb, className, groups, indent);
-            out.append(sb);
-
-            out.append(generateDecoderVarData(varData, indent));
+            final boolean hasVarDataIndex = shouldGenerateVarDataIndex && !(groups.isEmpty() && varData.isEmpty());
+            out.append(generateDecoderFlyweightCode(className, msgToken, hasVarDataIndex));
+            generateDecoderFields(out, fields, indent);
+            generateDecoderGroups(out, className, groups, indent);
+            generateDecoderVarData(out, varData, indent);
+            generateDecoderDisplay(out, msgToken.name(), fields, groups, varData, indent);
+
+            if (shouldGenerateTrustedAccessors) {
+                out.append(generateTryValidate(groups, varData, indent));
+            }
 
-            out.append(generateDecoderDisplay(msgToken.name(), fields, groups, varData, indent));
+            if (hasVarDataIndex) {
+                out.append(generateVarDataIndex(groups, varData, indent));
+            }
 
             out.append("}\n");
             out.append("}\n");
         }
     }
 
-    private void generateDecoderGroups(
+    private static final CSharpTemplate VAR_DATA_INDEX = CSharpTemplate.compile(
+            "\n" +
+            "%i    private readonly int[] _varDataIndex = new int[%1$d];\n" +
+            "%i    private bool _varDataIndexed;\n\n" +
+            "%i    /// <summary>\n" +
+            "%i    /// Record the offset of each group and var-data field of the wrapped message in one pass without moving\n" +
+            "%i    /// the limit, so the Seek methods can then move to them in any order and repeatedly. This is done by the\n" +
+            "%i    /// first Seek method called after each Wrap.\n" +
+            "%i    /// </summary>\n" +
+            "%i    public void IndexVarData()\n" +
+            "%i    {\n" +
+            "%i        int limit = _offset + _actingBlockLength;\n" +
+            "%2$s" +
+            "%i        _varDataIndex[%3$d] = limit;\n" +
+            "%i        _varDataIndexed = true;\n" +
+            "%i    }\n\n" +
+            "%i    private void SeekVarDataIndex(int slot)\n" +
+            "%i    {\n" +
+            "%i        if (!_varDataIndexed)\n" +
+            "%i        {\n" +
+            "%i            IndexVarData();\n" +
+            "%i        }\n\n" +
+            "%i        _limit = _varDataIndex[slot];\n" +
+            "%i    }\n" +
+            "%4$s" +
+            "\n" +
+            "%i    /// <summary>\n" +
+            "%i    /// Move the limit to the end of the message, after reading its fields out of order.\n" +
+            "%i    /// </summary>\n" +
+            "%i    public void SeekEnd()\n" +
+            "%i    {\n" +
+            "%i        SeekVarDataIndex(%3$d);\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate VAR_DATA_INDEX_ENTRY = CSharpTemplate.compile(
+            "%i        _varDataIndex[%d] = limit;\n");
+
+    private static final CSharpTemplate VAR_DATA_INDEX_GROUP = CSharpTemplate.compile(
+            "%i        limit = %s.Skip(_buffer, limit, _actingVersion);\n");
+
+    private static final CSharpTemplate VAR_DATA_INDEX_VAR_DATA = CSharpTemplate.compile(
+            "%i        limit += %d + (int)%s;\n");
+
+    private static final CSharpTemplate VAR_DATA_INDEX_SINCE_VERSION = CSharpTemplate.compile(
+            "%i        if (_actingVersion >= %d)\n" +
+            "%i        {\n" +
+            "%s" +
+            "%i        }\n");
+
+    private static final CSharpTemplate VAR_DATA_SEEK = CSharpTemplate.compile(
+            "\n" +
+            "%i    /// <summary>\n" +
+            "%i    /// Move the limit to %1$s so it is decoded next.\n" +
+            "%i    /// </summary>\n" +
+            "%i    public void Seek%2$s()\n" +
+            "%i    {\n" +
+            "%i        SeekVarDataIndex(%3$d);\n" +
+            "%i    }\n");
+
+    private CharSequence generateVarDataIndex(final List<Token> groups, final List<Token> varData, final String indent) {
+        final StringBuilder entries = new StringBuilder();
+        final StringBuilder seekMethods = new StringBuilder();
+        int slot = 0;
+
+        for (int i = 0, size = groups.size(); i < size; i++) {
+            final Token groupToken = groups.get(i);
+            final String propertyName = formatPropertyName(groupToken.name());
+
+            VAR_DATA_INDEX_ENTRY.appendTo(entries, indent, slot);
+            appendVarDataIndexAdvance(
+                    entries,
+                    groupToken.version(),
+                    VAR_DATA_INDEX_GROUP,
+                    indent,
+                    decoderName(formatClassName(groupToken.name())));
+            VAR_DATA_SEEK.appendTo(seekMethods, indent, "the " + propertyName + " group", propertyName, slot++);
+
+            i = findEndSignal(groups, i, Signal.END_GROUP, groupToken.name());
+        }
+
+        for (int i = 0, size = varData.size(); i < size; ) {
+            final Token varDataToken = varData.get(i);
+            final Token lengthToken = varData.get(i + 2);
+            final String propertyName = toUpperFirstChar(varDataToken.name());
+
+            VAR_DATA_INDEX_ENTRY.appendTo(entries, indent, slot);
+            appendVarDataIndexAdvance(
+                    entries,
+                    varDataToken.version(),
+                    VAR_DATA_INDEX_VAR_DATA,
+                    indent,
+                    lengthToken.encodedLength(),
+                    generateGet(lengthToken.encoding().primitiveType(), "limit", lengthToken.encoding().byteOrder()));
+            VAR_DATA_SEEK.appendTo(seekMethods, indent, "the " + propertyName + " field", propertyName, slot++);
+
+            i += varDataToken.componentTokenCount();
+        }
+
+        return VAR_DATA_INDEX.render(indent, slot + 1, entries, slot, seekMethods);
+    }
+
+    private void appendVarDataIndexAdvance(
             final StringBuilder sb,
+            final int sinceVersion,
+            final CSharpTemplate advance,
+            final String indent,
+            final Object... args) {
+        if (shouldOmitVersionChecks || 0 == sinceVersion) {
+            advance.appendTo(sb, indent, args);
+        } else {
+            VAR_DATA_INDEX_SINCE_VERSION.appendTo(
+                    sb, indent, sinceVersion, advance.render(indent + INDENT, args));
+        }
+    }
+
+    private static final CSharpTemplate TRY_VALIDATE = CSharpTemplate.compile(
+            "\n" +
+            "%i    /// <summary>\n" +
+            "%i    /// Walk the block, groups and var-data of the wrapped message once and check that it lies within the\n" +
+            "%i    /// first <paramref name=\"length\"/> bytes of the buffer, so the unchecked accessors may be used on it.\n" +
+            "%i    /// The check is conservative: each block must also cover the fields of the current schema version.\n" +
+            "%i    /// </summary>\n" +
+            "%i    public bool TryValidate(int length)\n" +
+            "%i    {\n" +
+            "%i        if (_offset < 0 || _actingBlockLength < 0 || length > _buffer.Capacity)\n" +
+            "%i        {\n" +
+            "%i            return false;\n" +
+            "%i        }\n\n" +
+            "%i        long limit = (long)_offset + Math.Max(_actingBlockLength, BLOCK_LENGTH);\n" +
+            "%i        if (limit > length)\n" +
+            "%i        {\n" +
+            "%i            return false;\n" +
+            "%i        }\n\n" +
+            "%i        limit = (long)_offset + _actingBlockLength;\n\n" +
+            "%i        return TryValidateBody(_buffer, ref limit, length, _actingVersion);\n" +
+            "%i    }\n\n" +
+            "%i    private static bool TryValidateBody(%1$s buffer, ref long limit, int length, int actingVersion)\n" +
+            "%i    {\n" +
+            "%2$s" +
+            "%i        return limit <= length;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate TRY_VALIDATE_GROUP_ENTRY = CSharpTemplate.compile(
+            "%i        if (%1$s!TryValidate%2$s(buffer, ref limit, length, actingVersion))\n" +
+            "%i        {\n" +
+            "%i            return false;\n" +
+            "%i        }\n\n");
+
+    private static final CSharpTemplate TRY_VALIDATE_VAR_DATA_ENTRY = CSharpTemplate.compile(
+            "%i        if (limit + %1$d > length)\n" +
+            "%i        {\n" +
+            "%i            return false;\n" +
+            "%i        }\n\n" +
+            "%i        limit += %1$d + (long)%2$s;\n");
+
+    private static final CSharpTemplate TRY_VALIDATE_SINCE_VERSION = CSharpTemplate.compile(
+            "%i        if (actingVersion >= %1$d)\n" +
+            "%i        {\n" +
+            "%2$s" +
+            "%i        }\n\n");
+
+    private static final CSharpTemplate TRY_VALIDATE_GROUP = CSharpTemplate.compile(
+            "\n" +
+            "%i    private static bool TryValidate%1$s(%2$s buffer, ref long limit, int length, int actingVersion)\n" +
+            "%i    {\n" +
+            "%i        if (limit + %3$d > length)\n" +
+            "%i        {\n" +
+            "%i            return false;\n" +
+            "%i        }\n\n" +
+            "%i        int blockLength = (int)%4$s;\n" +
+            "%i        long count = (long)%5$s;\n" +
+            "%i        limit += %3$d;\n\n" +
+            "%6$s" +
+            "%i    }\n");
+
+    private static final CSharpTemplate TRY_VALIDATE_FIXED_GROUP_ENTRIES = CSharpTemplate.compile(
+            "%i        if (count > 0 && limit + ((count - 1) * blockLength) + Math.Max(blockLength, %1$d) > length)\n" +
+            "%i        {\n" +
+            "%i            return false;\n" +
+            "%i        }\n\n" +
+            "%i        limit += count * blockLength;\n\n" +
+            "%i        return true;\n");
+
+    private static final CSharpTemplate TRY_VALIDATE_GROUP_ENTRIES = CSharpTemplate.compile(
+            "%i        for (long i = 0; i < count; i++)\n" +
+            "%i        {\n" +
+            "%i            if (limit + Math.Max(blockLength, %1$d) > length)\n" +
+            "%i            {\n" +
+            "%i                return false;\n" +
+            "%i            }\n\n" +
+            "%i            limit += blockLength;\n\n" +
+            "%2$s" +
+            "%i        }\n\n" +
+            "%i        return limit <= length;\n");
+
+    private CharSequence generateTryValidate(
+            final List<Token> groups, final List<Token> varData, final String indent) {
+        final StringBuilder methods = new StringBuilder();
+        final CharSequence body = generateTryValidateEntries(methods, "", groups, varData, indent, indent);
+
+        final StringBuilder sb = TRY_VALIDATE.render(indent, readOnlyBuffer, body);
+        sb.append(methods);
+
+        return sb;
+    }
+
+    /**
+     * Generate the checks for the groups and var-data which follow a block, appending a static validation method for
+     * each group, named by its path from the message, to {@code methods} at {@code methodIndent}.
+     */
+    private StringBuilder generateTryValidateEntries(
+            final StringBuilder methods,
+            final String path,
+            final List<Token> groups,
+            final List<Token> varData,
+            final String methodIndent,
+            final String indent) {
+        final StringBuilder sb = new StringBuilder();
+
+        for (int i = 0, size = groups.size(); i < size; i++) {
+            final Token groupToken = groups.get(i);
+            final String groupPath = path + formatClassName(groupToken.name());
+            final String versionGuard = 0 == groupToken.version() ?
+                    "" : "actingVersion >= " + groupToken.version() + " && ";
+
+            TRY_VALIDATE_GROUP_ENTRY.appendTo(sb, indent, versionGuard, groupPath);
+
+            final Token blockLengthToken = groups.get(i + 2);
+            final Token numInGroupToken = groups.get(i + 3);
+            final int headerLength = groups.get(i + 1).encodedLength();
+
+            int j = i + 1;
+            j += groups.get(j).componentTokenCount();
+
+            final List<Token> groupFields = new ArrayList<>();
+            j = collectFields(groups, j, groupFields);
+
+            final List<Token> nestedGroups = new ArrayList<>();
+            j = collectGroups(groups, j, nestedGroups);
+
+            final List<Token> nestedVarData = new ArrayList<>();
+            collectVarData(groups, j, nestedVarData);
+
+            final CharSequence entries;
+            if (nestedGroups.isEmpty() && nestedVarData.isEmpty()) {
+                entries = TRY_VALIDATE_FIXED_GROUP_ENTRIES.render(methodIndent, groupToken.encodedLength());
+            } else {
+                final StringBuilder nestedEntries = generateTryValidateEntries(
+                        methods, groupPath, nestedGroups, nestedVarData, methodIndent, methodIndent + INDENT);
+                nestedEntries.setLength(nestedEntries.length() - 1);
+
+                entries = TRY_VALIDATE_GROUP_ENTRIES.render(methodIndent, groupToken.encodedLength(), nestedEntries);
+            }
+
+            TRY_VALIDATE_GROUP.appendTo(
+                    methods,
+                    methodIndent,
+                    groupPath,
+                    readOnlyBuffer,
+                    headerLength,
+                    generateValidationGet(blockLengthToken, "(int)limit + " + blockLengthToken.offset()),
+                    generateValidationGet(numInGroupToken, "(int)limit + " + numInGroupToken.offset()),
+                    entries);
+
+            i = findEndSignal(groups, i, Signal.END_GROUP, groupToken.name());
+        }
+
+        for (int i = 0, size = varData.size(); i < size; ) {
+            final Token varDataToken = varData.get(i);
+            final Token lengthToken = varData.get(i + 2);
+            final int sinceVersion = varDataToken.version();
+
+            final String lengthGet = generateValidationGet(lengthToken, "(int)limit");
+            if (0 == sinceVersion) {
+                TRY_VALIDATE_VAR_DATA_ENTRY.appendTo(sb, indent, lengthToken.encodedLength(), lengthGet).append('\n');
+            } else {
+                TRY_VALIDATE_SINCE_VERSION.appendTo(
+                        sb,
+                        indent,
+                        sinceVersion,
+                        TRY_VALIDATE_VAR_DATA_ENTRY.render(indent + INDENT, lengthToken.encodedLength(), lengthGet));
+            }
+
+            i += varDataToken.componentTokenCount();
+        }
+
+        return sb;
+    }
+
+    /**
+     * The validation methods are static, so read through their {@code buffer} parameter rather than the field.
+     */
+    private String generateValidationGet(final Token token, final String index) {
+        final Encoding encoding = token.encoding();
+
+        return generateGet(encoding.primitiveType(), index, encoding.byteOrder()).replace("_buffer.", "buffer.");
+    }
+
+    void generateDecoderGroups(
+            final Writer out,
             final String outerClassName,
             final List<Token> tokens,
             final String indent) throws IOException {
+        final StringBuilder sb = new StringBuilder();
+
         for (int i = 0, size = tokens.size(); i < size; i++) {
             final Token groupToken = tokens.get(i);
             if (groupToken.signal() != Signal.BEGIN_GROUP) {
@@ -544,6 +1250,10 @@ public class CSharpGenerator implements CodeGenerator {
 
             generateAnnotations(indent + INDENT, groupName, tokens, sb, i + 1, this::decoderName);
             generateGroupDecoderClassHeader(sb, groupName, outerClassName, tokens, i, indent + INDENT);
+            drainTo(sb, out);
+
+            final Token blockLengthToken = tokens.get(i + 2);
+            final Token numInGroupToken = tokens.get(i + 3);
 
             ++i;
             final int groupHeaderTokenCount = tokens.get(i).componentTokenCount();
@@ -551,27 +1261,45 @@ public class CSharpGenerator implements CodeGenerator {
 
             final List<Token> fields = new ArrayList<>();
             i = collectFields(tokens, i, fields);
-            sb.append(generateDecoderFields(fields, indent + INDENT));
+            generateDecoderFields(out, fields, indent + INDENT);
 
             final List<Token> groups = new ArrayList<>();
             i = collectGroups(tokens, i, groups);
-            generateDecoderGroups(sb, outerClassName, groups, indent + INDENT);
+            generateDecoderGroups(out, outerClassName, groups, indent + INDENT);
 
             final List<Token> varData = new ArrayList<>();
             i = collectVarData(tokens, i, varData);
-            sb.append(generateDecoderVarData(varData, indent + INDENT));
+            generateDecoderVarData(out, varData, indent + INDENT);
+
+            if (!varData.isEmpty()) {
+                out.append('\n');
+            }
+            out.append(generateGroupDecoderSkip(blockLengthToken, numInGroupToken, groups, varData, indent + INDENT));
+            if (groups.isEmpty() && varData.isEmpty()) {
+                GROUP_DECODER_AT.appendTo(
+                        sb,
+                        indent + INDENT,
+                        groupName,
+                        formatClassName(groupToken.name()) + "Entry",
+                        outerClassName,
+                        readOnlyBuffer,
+                        generateEntryFields(fields, indent + INDENT + INDENT));
+                drainTo(sb, out);
+            }
 
-            appendGroupInstanceDecoderDisplay(sb, fields, groups, varData, indent + INDENT);
+            appendGroupInstanceDecoderDisplay(out, fields, groups, varData, indent + INDENT);
 
-            sb.append(indent).append("    }\n");
+            out.append(indent).append("    }\n");
         }
     }
 
-    private void generateEncoderGroups(
-            final StringBuilder sb,
+    void generateEncoderGroups(
+            final Writer out,
             final String outerClassName,
             final List<Token> tokens,
             final String indent) throws IOException {
+        final StringBuilder sb = new StringBuilder();
+
         for (int i = 0, size = tokens.size(); i < size; i++) {
             final Token groupToken = tokens.get(i);
             if (groupToken.signal() != Signal.BEGIN_GROUP) {
@@ -584,6 +1312,7 @@ public class CSharpGenerator implements CodeGenerator {
 
             generateAnnotations(indent + INDENT, groupClassName, tokens, sb, i + 1, this::encoderName);
             generateGroupEncoderClassHeader(sb, groupName, outerClassName, tokens, i, indent + INDENT);
+            drainTo(sb, out);
 
             ++i;
             final int groupHeaderTokenCount = tokens.get(i).componentTokenCount();
@@ -591,20 +1320,96 @@ public class CSharpGenerator implements CodeGenerator {
 
             final List<Token> fields = new ArrayList<>();
             i = collectFields(tokens, i, fields);
-            sb.append(generateEncoderFields(groupClassName, fields, indent + INDENT));
+            generateEncoderFields(out, groupClassName, fields, indent + INDENT);
 
             final List<Token> groups = new ArrayList<>();
             i = collectGroups(tokens, i, groups);
-            generateEncoderGroups(sb, outerClassName, groups, indent + INDENT);
+            generateEncoderGroups(out, outerClassName, groups, indent + INDENT);
 
             final List<Token> varData = new ArrayList<>();
             i = collectVarData(tokens, i, varData);
-            sb.append(generateEncoderVarData(groupClassName, varData, indent + INDENT));
+            generateEncoderVarData(out, groupClassName, varData, indent + INDENT);
 
-            sb.append(indent).append("    }\n");
+            out.append(indent).append("    }\n");
         }
     }
 
+    private static final CSharpTemplate GROUP_DECODER_WRAP = CSharpTemplate.compile(
+            "%i    public void Wrap(\n" +
+            "%i        %s parentMessage, %s buffer)\n" +
+            "%i    {\n" +
+            "%i        this._parentMessage = parentMessage;\n" +
+            "%i        this._buffer = buffer;\n" +
+            "%i        _dimensions.Wrap(buffer, parentMessage.Limit());\n" +
+            "%i        _blockLength = _dimensions.BlockLength();\n" +
+            "%i        _count = _dimensions.NumInGroup();\n" +
+            "%i        _index = -1;\n" +
+            "%i        parentMessage.Limit(parentMessage.Limit() + HEADER_SIZE);\n" +
+            "%i    }\n\n");
+
+    private static final CSharpTemplate GROUP_SBE_BLOCK_LENGTH = CSharpTemplate.compile(
+            "%i    public static int SbeBlockLength()\n" +
+            "%i    {\n" +
+            "%i        return %d;\n" +
+            "%i    }\n\n");
+
+    private static final CSharpTemplate GROUP_DECODER_COUNT_METHODS = CSharpTemplate.compile(
+            "%i    public int ActingBlockLength()\n" +
+            "%i    {\n" +
+            "%i        return _blockLength;\n" +
+            "%i    }\n\n" +
+            "%i    public long LongCount()\n" +
+            "%i    {\n" +
+            "%i        return _count;\n" +
+            "%i    }\n\n" +
+            "%i    public int Count()\n" +
+            "%i    {\n" +
+            "%i        if (_count > Int32.MaxValue)\n" +
+            "%i        {\n" +
+            "%i            throw new InvalidOperationException(\"count cannot be represented by a 32-bit int\");\n" +
+            "%i        }\n" +
+            "%i        return (int) _count;\n" +
+            "%i    }\n\n" +
+            "%i    public bool HasNext()\n" +
+            "%i    {\n" +
+            "%i        return (_index + 1) < _count;\n" +
+            "%i    }\n\n");
+
+    private static final CSharpTemplate GROUP_DECODER_NEXT = CSharpTemplate.compile(
+            "%i    public %s Next()\n" +
+            "%i    {\n" +
+            "%i        if (_index + 1 >= _count)\n" +
+            "%i        {\n" +
+            "%i            throw new IndexOutOfRangeException();\n" +
+            "%i        }\n\n" +
+            "%i        _offset = _parentMessage.Limit();\n" +
+            "%i        _parentMessage.Limit(_offset + _blockLength);\n" +
+            "%i        ++_index;\n\n" +
+            "%i        return this;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate GROUP_DECODER_MOVE_NEXT = CSharpTemplate.compile(
+            "%i    public bool MoveNext()\n" +
+            "%i    {\n" +
+            "%i        if (_index + 1 >= _count)\n" +
+            "%i        {\n" +
+            "%i            return false;\n" +
+            "%i        }\n\n" +
+            "%i        _offset = _parentMessage.Limit();\n" +
+            "%i        _parentMessage.Limit(_offset + _blockLength);\n" +
+            "%i        ++_index;\n\n" +
+            "%i        return true;\n" +
+            "%i    }\n\n");
+
+    private static final CSharpTemplate GROUP_DECODER_GET_ENUMERATOR = CSharpTemplate.compile(
+            "%i    public IEnumerator<%s> GetEnumerator()\n" +
+            "%i    {\n" +
+            "%i        return this;\n" +
+            "%i    }\n\n");
+
+    private static final CSharpTemplate GROUP_DECODER_CURRENT = CSharpTemplate.compile(
+            "%i    public %s Current => this;\n\n");
+
     private void generateGroupDecoderClassHeader(
             final StringBuilder sb,
             final String groupName,
@@ -626,20 +1431,7 @@ public class CSharpGenerator implements CodeGenerator {
                         indent + "    }\n\n"
         );
 
-        sb.append(String.format(
-                indent + "    public void Wrap(\n" +
-                        indent + "        %s parentMessage, %s buffer)\n" +
-                        indent + "    {\n" +
-                        indent + "        this._parentMessage = parentMessage;\n" +
-                        indent + "        this._buffer = buffer;\n" +
-                        indent + "        _dimensions.Wrap(buffer, parentMessage.Limit());\n" +
-                        indent + "        _blockLength = _dimensions.BlockLength();\n" +
-                        indent + "        _count = _dimensions.NumInGroup();\n" +
-                        indent + "        _index = -1;\n" +
-                        indent + "        parentMessage.Limit(parentMessage.Limit() + HEADER_SIZE);\n" +
-                        indent + "    }\n\n",
-                parentMessageClassName,
-                readOnlyBuffer));
+        GROUP_DECODER_WRAP.appendTo(sb, indent, parentMessageClassName, readOnlyBuffer);
 
         final int blockLength = tokens.get(index).encodedLength();
 
@@ -648,74 +1440,17 @@ public class CSharpGenerator implements CodeGenerator {
                 .append(indent).append("        return HEADER_SIZE;\n")
                 .append(indent).append("    }\n\n");
 
-        sb.append(String.format(
-                indent + "    public static int SbeBlockLength()\n" +
-                        indent + "    {\n" +
-                        indent + "        return %d;\n" +
-                        indent + "    }\n\n",
-                blockLength));
+        GROUP_SBE_BLOCK_LENGTH.appendTo(sb, indent, blockLength);
 
-        sb.append(String.format(
-                indent + "    public int ActingBlockLength()\n" +
-                        indent + "    {\n" +
-                        indent + "        return _blockLength;\n" +
-                        indent + "    }\n\n" +
-                        indent + "    public long LongCount()\n" +
-                        indent + "    {\n" +
-                        indent + "        return _count;\n" +
-                        indent + "    }\n\n" +
-                        indent + "    public int Count()\n" +
-                        indent + "    {\n" +
-                        indent + "        if (_count > Int32.MaxValue)\n" +
-                        indent + "        {\n" +
-                        indent + "            throw new InvalidOperationException(\"count cannot be represented by a 32-bit int\");\n" +
-                        indent + "        }\n" +
-                        indent + "        return (int) _count;\n" +
-                        indent + "    }\n\n" +
-                        indent + "    public bool HasNext()\n" +
-                        indent + "    {\n" +
-                        indent + "        return (_index + 1) < _count;\n" +
-                        indent + "    }\n\n",
-                formatClassName(groupName)));
+        GROUP_DECODER_COUNT_METHODS.appendTo(sb, indent, formatClassName(groupName));
 
-        sb.append(String.format(
-                indent + "    public %s Next()\n" +
-                        indent + "    {\n" +
-                        indent + "        if (_index + 1 >= _count)\n" +
-                        indent + "        {\n" +
-                        indent + "            throw new IndexOutOfRangeException();\n" +
-                        indent + "        }\n\n" +
-                        indent + "        _offset = _parentMessage.Limit();\n" +
-                        indent + "        _parentMessage.Limit(_offset + _blockLength);\n" +
-                        indent + "        ++_index;\n\n" +
-                        indent + "        return this;\n" +
-                        indent + "    }\n",
-                formatClassName(groupName)));
-
-        sb.append(String.format(
-                indent + "    public bool MoveNext()\n" +
-                        indent + "    {\n" +
-                        indent + "        if (_index + 1 >= _count)\n" +
-                        indent + "        {\n" +
-                        indent + "            return false;\n" +
-                        indent + "        }\n\n" +
-                        indent + "        _offset = _parentMessage.Limit();\n" +
-                        indent + "        _parentMessage.Limit(_offset + _blockLength);\n" +
-                        indent + "        ++_index;\n\n" +
-                        indent + "        return true;\n" +
-                        indent + "    }\n\n",
-                formatClassName(groupName)));
-
-        sb.append(String.format(
-                indent + "    public IEnumerator<%s> GetEnumerator()\n" +
-                        indent + "    {\n" +
-                        indent + "        return this;\n" +
-                        indent + "    }\n\n",
-                formatClassName(groupName)));
+        GROUP_DECODER_NEXT.appendTo(sb, indent, formatClassName(groupName));
+
+        GROUP_DECODER_MOVE_NEXT.appendTo(sb, indent, formatClassName(groupName));
 
-        sb.append(String.format(
-                indent + "    public %s Current => this;\n\n",
-                formatClassName(groupName)));
+        GROUP_DECODER_GET_ENUMERATOR.appendTo(sb, indent, formatClassName(groupName));
+
+        GROUP_DECODER_CURRENT.appendTo(sb, indent, formatClassName(groupName));
 
         sb.append(
                 indent + "    IEnumerator IEnumerable.GetEnumerator()\n" +
@@ -739,6 +1474,37 @@ public class CSharpGenerator implements CodeGenerator {
                         indent + "    }\n\n");
     }
 
+    private static final CSharpTemplate GROUP_ENCODER_WRAP = CSharpTemplate.compile(
+            "%i    public void Wrap(\n" +
+            "%i        %1$s parentMessage, %2$s buffer, uint count)\n" +
+            "%i    {\n" +
+            "%i        if (count < %3$d || count > %4$d)\n" +
+            "%i        {\n" +
+            "%i            throw new ArgumentException(\"count outside allowed range: count=\" + count);\n" +
+            "%i        }\n\n" +
+            "%i        this._parentMessage = parentMessage;\n" +
+            "%i        this._buffer = buffer;\n" +
+            "%i        _dimensions.Wrap(buffer, parentMessage.Limit());\n" +
+            "%i        _dimensions.BlockLength((%5$s)%6$d);\n" +
+            "%i        _dimensions.NumInGroup((%7$s)count);\n" +
+            "%i        _index = -1;\n" +
+            "%i        this._count = count;\n" +
+            "%i        parentMessage.Limit(parentMessage.Limit() + HEADER_SIZE);\n" +
+            "%i    }\n\n");
+
+    private static final CSharpTemplate GROUP_ENCODER_NEXT = CSharpTemplate.compile(
+            "%i    public %s Next()\n" +
+            "%i    {\n" +
+            "%i        if (_index + 1 >= _count)\n" +
+            "%i        {\n" +
+            "%i            throw new IndexOutOfRangeException();\n" +
+            "%i        }\n\n" +
+            "%i        _offset = _parentMessage.Limit();\n" +
+            "%i        _parentMessage.Limit(_offset + SbeBlockLength());\n" +
+            "%i        ++_index;\n\n" +
+            "%i        return this;\n" +
+            "%i    }\n");
+
     private void generateGroupEncoderClassHeader(
             final StringBuilder sb,
             final String groupName,
@@ -757,58 +1523,40 @@ public class CSharpGenerator implements CodeGenerator {
         final Token numInGroupToken = tokens.get(index + 3);
         final String javaTypeForNumInGroup = primitiveTypeName(numInGroupToken);
 
-        sb.append(String.format(
-                ind + "    public void Wrap(\n" +
-                        ind + "        %1$s parentMessage, %2$s buffer, uint count)\n" +
-                        ind + "    {\n" +
-                        ind + "        if (count < %3$d || count > %4$d)\n" +
-                        ind + "        {\n" +
-                        ind + "            throw new ArgumentException(\"count outside allowed range: count=\" + count);\n" +
-                        ind + "        }\n\n" +
-                        ind + "        this._parentMessage = parentMessage;\n" +
-                        ind + "        this._buffer = buffer;\n" +
-                        ind + "        _dimensions.Wrap(buffer, parentMessage.Limit());\n" +
-                        ind + "        _dimensions.BlockLength((%5$s)%6$d);\n" +
-                        ind + "        _dimensions.NumInGroup((%7$s)count);\n" +
-                        ind + "        _index = -1;\n" +
-                        ind + "        this._count = count;\n" +
-                        ind + "        parentMessage.Limit(parentMessage.Limit() + HEADER_SIZE);\n" +
-                        ind + "    }\n\n",
+        GROUP_ENCODER_WRAP.appendTo(
+                sb,
+                ind,
                 parentMessageClassName,
                 mutableBuffer,
                 numInGroupToken.encoding().applicableMinValue().longValue(),
                 numInGroupToken.encoding().applicableMaxValue().longValue(),
                 javaTypeForBlockLength,
                 blockLength,
-                javaTypeForNumInGroup));
+                javaTypeForNumInGroup);
 
         sb.append(ind).append("    public static int SbeHeaderSize()\n")
                 .append(ind).append("    {\n")
                 .append(ind).append("        return HEADER_SIZE;\n")
                 .append(ind).append("    }\n\n");
 
-        sb.append(String.format(
-                ind + "    public static int SbeBlockLength()\n" +
-                        ind + "    {\n" +
-                        ind + "        return %d;\n" +
-                        ind + "    }\n\n",
-                blockLength));
-
-        sb.append(String.format(
-                ind + "    public %s Next()\n" +
-                        ind + "    {\n" +
-                        ind + "        if (_index + 1 >= _count)\n" +
-                        ind + "        {\n" +
-                        ind + "            throw new IndexOutOfRangeException();\n" +
-                        ind + "        }\n\n" +
-                        ind + "        _offset = _parentMessage.Limit();\n" +
-                        ind + "        _parentMessage.Limit(_offset + SbeBlockLength());\n" +
-                        ind + "        ++_index;\n\n" +
-                        ind + "        return this;\n" +
-                        ind + "    }\n",
-                formatClassName(encoderName(groupName))));
+        GROUP_SBE_BLOCK_LENGTH.appendTo(sb, ind, blockLength);
+
+        GROUP_ENCODER_NEXT.appendTo(sb, ind, formatClassName(encoderName(groupName)));
     }
 
+    private static final CSharpTemplate GROUP_DECODER_CLASS_DECLARATION = CSharpTemplate.compile(
+            "\n" +
+            "%ipublic class %1$s : IEnumerable<%1$s>, IEnumerator<%1$s>\n" +
+            "%i{\n" +
+            "%i    private static int HEADER_SIZE = %2$d;\n" +
+            "%i    private %3$s _dimensions = new %3$s();\n" +
+            "%i    private %4$s _parentMessage;\n" +
+            "%i    private %5$s _buffer;\n" +
+            "%i    private uint _count;\n" +
+            "%i    private int _index;\n" +
+            "%i    private int _offset;\n" +
+            "%i    private int _blockLength;\n\n");
+
     private void generateGroupDecoderClassDeclaration(
             final StringBuilder sb,
             final String groupName,
@@ -816,25 +1564,28 @@ public class CSharpGenerator implements CodeGenerator {
             final String indent,
             final String dimensionsClassName,
             final int dimensionHeaderSize) {
-        sb.append(String.format(
-                "\n" +
-                        indent + "public class %1$s : IEnumerable<%1$s>, IEnumerator<%1$s>\n" +
-                        indent + "{\n" +
-                        indent + "    private static int HEADER_SIZE = %2$d;\n" +
-                        indent + "    private %3$s _dimensions = new %3$s();\n" +
-                        indent + "    private %4$s _parentMessage;\n" +
-                        indent + "    private %5$s _buffer;\n" +
-                        indent + "    private uint _count;\n" +
-                        indent + "    private int _index;\n" +
-                        indent + "    private int _offset;\n" +
-                        indent + "    private int _blockLength;\n\n",
+        GROUP_DECODER_CLASS_DECLARATION.appendTo(
+                sb,
+                indent,
                 formatClassName(groupName),
                 dimensionHeaderSize,
                 decoderName(dimensionsClassName),
                 parentMessageClassName,
-                readOnlyBuffer));
+                readOnlyBuffer);
     }
 
+    private static final CSharpTemplate GROUP_ENCODER_CLASS_DECLARATION = CSharpTemplate.compile(
+            "\n" +
+            "%ipublic class %1$s\n" +
+            "%i{\n" +
+            "%i    private static int HEADER_SIZE = %2$d;\n" +
+            "%i    private %3$s _dimensions = new %3$s();\n" +
+            "%i    private %4$s _parentMessage;\n" +
+            "%i    private %5$s _buffer;\n" +
+            "%i    private uint _count;\n" +
+            "%i    private int _index;\n" +
+            "%i    private int _offset;\n\n");
+
     private void generateGroupEncoderClassDeclaration(
             final StringBuilder sb,
             final String groupName,
@@ -842,73 +1593,79 @@ public class CSharpGenerator implements CodeGenerator {
             final String indent,
             final String dimensionsClassName,
             final int dimensionHeaderSize) {
-        sb.append(String.format(
-                "\n" +
-                        indent + "public class %1$s\n" +
-                        indent + "{\n" +
-                        indent + "    private static int HEADER_SIZE = %2$d;\n" +
-                        indent + "    private %3$s _dimensions = new %3$s();\n" +
-                        indent + "    private %4$s _parentMessage;\n" +
-                        indent + "    private %5$s _buffer;\n" +
-                        indent + "    private uint _count;\n" +
-                        indent + "    private int _index;\n" +
-                        indent + "    private int _offset;\n\n",
+        GROUP_ENCODER_CLASS_DECLARATION.appendTo(
+                sb,
+                indent,
                 formatClassName(encoderName(groupName)),
                 dimensionHeaderSize,
                 dimensionsClassName,
                 parentMessageClassName,
-                mutableBuffer));
+                mutableBuffer);
     }
 
+    private static final CSharpTemplate GROUP_ENCODER_INT_COUNT = CSharpTemplate.compile(
+            "\n" +
+            "%i    public %1$s %2$sCount(int count)\n" +
+            "%i    {\n" +
+            "%i        if (count < 0)\n" +
+            "%i        {\n" +
+            "%i            throw new ArgumentException(\"count must be >= 0\");\n" +
+            "%i        }\n" +
+            "%i        _%2$s.Wrap(_parentMessage, _buffer, (uint) count);\n" +
+            "%i        return _%2$s;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate GROUP_ENCODER_UINT_COUNT = CSharpTemplate.compile(
+            "\n" +
+            "%i    public %1$s %2$sCount(uint count)\n" +
+            "%i    {\n" +
+            "%i        _%2$s.Wrap(_parentMessage, _buffer, count);\n" +
+            "%i        return _%2$s;\n" +
+            "%i    }\n");
+
     private CharSequence generateGroupEncoderProperty(final String groupName, final Token token, final String indent) {
         final StringBuilder sb = new StringBuilder();
         final String className = formatClassName(encoderName(groupName));
         final String propertyName = formatPropertyName(groupName);
 
-        sb.append(String.format(
-                "\n" +
-                        indent + "    private %s _%s = new %s();\n",
-                className,
-                propertyName,
-                className));
+        FLYWEIGHT_FIELD.appendTo(sb, indent, className, propertyName, className);
 
-        sb.append(String.format(
-                "\n" +
-                        indent + "    public static long %sId()\n" +
-                        indent + "    {\n" +
-                        indent + "        return %d;\n" +
-                        indent + "    }\n",
-                formatPropertyName(groupName),
-                token.id()));
-
-        sb.append(String.format(
-                "\n" +
-                        indent + "    public %1$s %2$sCount(int count)\n" +
-                        indent + "    {\n" +
-                        indent + "        if (count < 0)\n" +
-                        indent + "        {\n" +
-                        indent + "            throw new ArgumentException(\"count must be >= 0\");\n" +
-                        indent + "        }\n" +
-                        indent + "        _%2$s.Wrap(_parentMessage, _buffer, (uint) count);\n" +
-                        indent + "        return _%2$s;\n" +
-                        indent + "    }\n",
-                className,
-                propertyName));
+        GROUP_ID_METHOD.appendTo(sb, indent, formatPropertyName(groupName), token.id());
 
-        sb.append(String.format(
-                "\n" +
-                        indent + "    public %1$s %2$sCount(uint count)\n" +
-                        indent + "    {\n" +
-                        indent + "        _%2$s.Wrap(_parentMessage, _buffer, count);\n" +
-                        indent + "        return _%2$s;\n" +
-                        indent + "    }\n",
-                className,
-                propertyName));
+        GROUP_ENCODER_INT_COUNT.appendTo(sb, indent, className, propertyName);
+
+        GROUP_ENCODER_UINT_COUNT.appendTo(sb, indent, className, propertyName);
 
         return sb;
     }
 
-    private CharSequence generateDecoderVarData(final List<Token> tokens, final String indent) {
+    private static final CSharpTemplate VAR_DATA_HEADER_LENGTH = CSharpTemplate.compile(
+            "\n" +
+            "%i    public static int %sHeaderLength()\n" +
+            "%i    {\n" +
+            "%i        return %d;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate VAR_DATA_SKIP = CSharpTemplate.compile(
+            "\n" +
+            "%i    public void Skip%1$s()\n" +
+            "%i    {\n" +
+            "%2$s" +
+            "%i        int limit = _parentMessage.Limit();\n" +
+            "%i        _parentMessage.Limit(limit + %3$d + (int)%4$s);\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate VAR_DATA_LENGTH = CSharpTemplate.compile(
+            "\n" +
+            "%i    public int %sLength()\n" +
+            "%i    {\n" +
+            "%s" +
+            "%i        int limit = _parentMessage.Limit();\n" +
+            "%i        return (int)%s;\n" +
+            "%i    }\n");
+
+    private void generateDecoderVarData(
+            final Writer out, final List<Token> tokens, final String indent) throws IOException {
         final StringBuilder sb = new StringBuilder();
 
         for (int i = 0, size = tokens.size(); i < size; ) {
@@ -929,39 +1686,38 @@ public class CSharpGenerator implements CodeGenerator {
             final int sizeOfLengthField = lengthToken.encodedLength();
             final Encoding lengthEncoding = lengthToken.encoding();
             final PrimitiveType lengthType = lengthEncoding.primitiveType();
-            final String byteOrderStr = byteOrderString(lengthEncoding);
-
-            sb.append(String.format(
-                    "\n" +
-                            indent + "    public static int %sHeaderLength()\n" +
-                            indent + "    {\n" +
-                            indent + "        return %d;\n" +
-                            indent + "    }\n",
-                    toUpperFirstChar(propertyName),
-                    sizeOfLengthField));
-
-            sb.append(String.format(
-                    "\n" +
-                            indent + "    public int %sLength()\n" +
-                            indent + "    {\n" +
-                            "%s" +
-                            indent + "        int limit = _parentMessage.Limit();\n" +
-                            indent + "        return (int)%s;\n" +
-                            indent + "    }\n",
+            final ByteOrder byteOrder = lengthEncoding.byteOrder();
+
+            VAR_DATA_HEADER_LENGTH.appendTo(sb, indent, toUpperFirstChar(propertyName), sizeOfLengthField);
+
+            VAR_DATA_LENGTH.appendTo(
+                    sb,
+                    indent,
                     toUpperFirstChar(propertyName),
                     generateArrayFieldNotPresentCondition(token.version(), indent),
-                    generateGet(lengthType, "limit", byteOrderStr)));
+                    generateGet(lengthType, "limit", byteOrder));
 
             generateDataDecodeMethods(
-                    sb, token, propertyName, sizeOfLengthField, lengthType, byteOrderStr, characterEncoding, indent);
+                    sb, token, propertyName, sizeOfLengthField, lengthType, byteOrder, characterEncoding, indent);
+
+            VAR_DATA_SKIP.appendTo(
+                    sb,
+                    indent,
+                    toUpperFirstChar(propertyName),
+                    generateSkipNotPresentCondition(token.version(), indent),
+                    sizeOfLengthField,
+                    generateGet(lengthType, "limit", byteOrder));
+            drainTo(sb, out);
 
             i += token.componentTokenCount();
         }
-
-        return sb;
     }
 
-    private CharSequence generateEncoderVarData(final String className, final List<Token> tokens, final String indent) {
+    private void generateEncoderVarData(
+            final Writer out,
+            final String className,
+            final List<Token> tokens,
+            final String indent) throws IOException {
         final StringBuilder sb = new StringBuilder();
 
         for (int i = 0, size = tokens.size(); i < size; ) {
@@ -980,16 +1736,9 @@ public class CSharpGenerator implements CodeGenerator {
             final int sizeOfLengthField = lengthToken.encodedLength();
             final Encoding lengthEncoding = lengthToken.encoding();
             final int maxLengthValue = (int) lengthEncoding.applicableMaxValue().longValue();
-            final String byteOrderStr = byteOrderString(lengthEncoding);
-
-            sb.append(String.format(
-                    "\n" +
-                            indent + "    public static int %sHeaderLength()\n" +
-                            indent + "    {\n" +
-                            indent + "        return %d;\n" +
-                            indent + "    }\n",
-                    toUpperFirstChar(propertyName),
-                    sizeOfLengthField));
+            final ByteOrder byteOrder = lengthEncoding.byteOrder();
+
+            VAR_DATA_HEADER_LENGTH.appendTo(sb, indent, toUpperFirstChar(propertyName), sizeOfLengthField);
 
             generateDataEncodeMethods(
                     sb,
@@ -997,15 +1746,61 @@ public class CSharpGenerator implements CodeGenerator {
                     sizeOfLengthField,
                     maxLengthValue,
                     lengthEncoding.primitiveType(),
-                    byteOrderStr,
+                    byteOrder,
                     characterEncoding,
                     className,
                     indent);
+            drainTo(sb, out);
 
             i += token.componentTokenCount();
         }
+    }
 
-        return sb;
+    private static final CSharpTemplate DATA_STRING_DECODER = CSharpTemplate.compile(
+            "\n" +
+            "%i    public string %1$s()\n" +
+            "%i    {\n" +
+            "%2$s" +
+            "%i        int headerLength = %3$d;\n" +
+            "%i        int limit = _parentMessage.Limit();\n" +
+            "%i        int dataLength = (int)%4$s;\n" +
+            "%i        _parentMessage.Limit(limit + headerLength + dataLength);\n" +
+            "%i        byte[] tmp = new byte[dataLength];\n" +
+            "%i        _buffer.GetBytes(limit + headerLength, tmp, 0, dataLength);\n\n" +
+            "%i        return %6$s.GetString(tmp);\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate DATA_STRING_DECODER_UNSAFE = CSharpTemplate.compile(
+            "\n" +
+            "%i    public unsafe string %1$s()\n" +
+            "%i    {\n" +
+            "%2$s" +
+            "%i        int headerLength = %3$d;\n" +
+            "%i        int limit = _parentMessage.Limit();\n" +
+            "%i        int dataLength = (int)%4$s;\n" +
+            "%i        _buffer.BoundsCheck(limit + headerLength, dataLength);\n" +
+            "%i        _parentMessage.Limit(limit + headerLength + dataLength);\n\n" +
+            "%i        return %6$s.GetString((byte*)_buffer.BufferPointer + limit + headerLength, dataLength);\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate DATA_STRING_DECODER_INTERNED = CSharpTemplate.compile(
+            "\n" +
+            "%i    public string %1$s()\n" +
+            "%i    {\n" +
+            "%2$s" +
+            "%i        int headerLength = %3$d;\n" +
+            "%i        int limit = _parentMessage.Limit();\n" +
+            "%i        int dataLength = (int)%4$s;\n" +
+            "%i        _parentMessage.Limit(limit + headerLength + dataLength);\n\n" +
+            "%i        return StringInternPool.Current.Intern(_buffer, limit + headerLength, dataLength, %6$s);\n" +
+            "%i    }\n");
+
+    private CSharpTemplate dataStringDecoderTemplate() {
+        if (shouldInternStrings) {
+            return DATA_STRING_DECODER_INTERNED;
+        }
+
+        return shouldGenerateUnsafeCode ? DATA_STRING_DECODER_UNSAFE : DATA_STRING_DECODER;
     }
 
     private void generateDataDecodeMethods(
@@ -1014,7 +1809,7 @@ public class CSharpGenerator implements CodeGenerator {
             final String propertyName,
             final int sizeOfLengthField,
             final PrimitiveType lengthType,
-            final String byteOrderStr,
+            final ByteOrder byteOrder,
             final String characterEncoding,
             final String indent) {
         generateDataTypedDecoder(
@@ -1024,7 +1819,7 @@ public class CSharpGenerator implements CodeGenerator {
                 sizeOfLengthField,
                 mutableBuffer,
                 lengthType,
-                byteOrderStr,
+                byteOrder,
                 indent);
 
         generateDataTypedDecoder(
@@ -1034,39 +1829,131 @@ public class CSharpGenerator implements CodeGenerator {
                 sizeOfLengthField,
                 "byte[]",
                 lengthType,
-                byteOrderStr,
+                byteOrder,
                 indent);
 
         if (null != characterEncoding) {
-            sb.append(String.format(
-                    "\n" +
-                            indent + "    public string %1$s()\n" +
-                            indent + "    {\n" +
-                            "%2$s" +
-                            indent + "        int headerLength = %3$d;\n" +
-                            indent + "        int limit = _parentMessage.Limit();\n" +
-                            indent + "        int dataLength = (int)%4$s;\n" +
-                            indent + "        _parentMessage.Limit(limit + headerLength + dataLength);\n" +
-                            indent + "        byte[] tmp = new byte[dataLength];\n" +
-                            indent + "        _buffer.GetBytes(limit + headerLength, tmp, 0, dataLength);\n\n" +
-                            indent + "        return %6$s.GetString(tmp);\n" +
-                            indent + "    }\n",
+            dataStringDecoderTemplate().appendTo(
+                    sb,
+                    indent,
                     formatPropertyName(propertyName),
                     generateStringNotPresentCondition(token.version(), indent),
                     sizeOfLengthField,
-                    generateGet(lengthType, "limit", byteOrderStr),
+                    generateGet(lengthType, "limit", byteOrder),
                     characterEncoding,
-                    charset(characterEncoding)));
+                    charset(characterEncoding));
         }
     }
 
+    private static final CSharpTemplate DATA_ASCII_STRING_ENCODER = CSharpTemplate.compile(
+            "\n" +
+            "%i    public %1$s %2$s(string value)\n" +
+            "%i    {\n" +
+            "%i        int length = value.Length;\n" +
+            "%i        if (length > %3$d)\n" +
+            "%i        {\n" +
+            "%i            throw new InvalidOperationException" +
+            "(\"length > maxValue for type: \" + length);\n" +
+            "%i        }\n\n" +
+            "%i        int headerLength = %4$d;\n" +
+            "%i        int limit = _parentMessage.Limit();\n" +
+            "%i        _parentMessage.Limit(limit + headerLength + length);\n" +
+            "%i        %5$s;\n" +
+            "%i        _buffer.PutStringWithoutLengthAscii(limit + headerLength, value);\n\n" +
+            "%i        return this;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate DATA_STRING_ENCODER = CSharpTemplate.compile(
+            "\n" +
+            "%i    public %1$s %2$s(string value)\n" +
+            "%i    {\n" +
+            "%i        byte[] bytes = %7$s.GetBytes(value);\n" +
+            "%i        int length = bytes.Length;\n" +
+            "%i        if (length > %4$d)\n" +
+            "%i        {\n" +
+            "%i            throw new InvalidOperationException" +
+            "(\"length > maxValue for type: \" + length);\n" +
+            "%i        }\n\n" +
+            "%i        int headerLength = %5$d;\n" +
+            "%i        int limit = _parentMessage.Limit();\n" +
+            "%i        _parentMessage.Limit(limit + headerLength + length);\n" +
+            "%i        %6$s;\n" +
+            "%i        _buffer.PutBytes(limit + headerLength, bytes, 0, length);\n\n" +
+            "%i        return this;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate DATA_STRING_ENCODER_UNSAFE = CSharpTemplate.compile(
+            "\n" +
+            "%i    public unsafe %1$s %2$s(string value)\n" +
+            "%i    {\n" +
+            "%i        int length = %7$s.GetByteCount(value);\n" +
+            "%i        if (length > %4$d)\n" +
+            "%i        {\n" +
+            "%i            throw new InvalidOperationException" +
+            "(\"length > maxValue for type: \" + length);\n" +
+            "%i        }\n\n" +
+            "%i        int headerLength = %5$d;\n" +
+            "%i        int limit = _parentMessage.Limit();\n" +
+            "%i        _parentMessage.Limit(limit + headerLength + length);\n" +
+            "%i        %6$s;\n" +
+            "%i        _buffer.BoundsCheck(limit + headerLength, length);\n" +
+            "%i        fixed (char* chars = value)\n" +
+            "%i        {\n" +
+            "%i            %7$s.GetBytes(chars, value.Length, (byte*)_buffer.BufferPointer + limit + headerLength, length);\n" +
+            "%i        }\n\n" +
+            "%i        return this;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate DATA_SPAN_ENCODER = CSharpTemplate.compile(
+            "\n" +
+            "%i    public unsafe %1$s Put%2$s(ReadOnlySpan<byte> src)\n" +
+            "%i    {\n" +
+            "%i        int length = src.Length;\n" +
+            "%i        if (length > %3$d)\n" +
+            "%i        {\n" +
+            "%i            throw new InvalidOperationException(\"length > maxValue for type: \" + length);\n" +
+            "%i        }\n\n" +
+            "%i        int headerLength = %4$d;\n" +
+            "%i        int limit = _parentMessage.Limit();\n" +
+            "%i        _parentMessage.Limit(limit + headerLength + length);\n" +
+            "%i        %5$s;\n" +
+            "%i        _buffer.BoundsCheck(limit + headerLength, length);\n" +
+            "%i        src.CopyTo(new Span<byte>((byte*)_buffer.BufferPointer + limit + headerLength, length));\n\n" +
+            "%i        return this;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate DATA_ASCII_SPAN_ENCODER = CSharpTemplate.compile(
+            "\n" +
+            "%i    public unsafe %1$s %2$s(ReadOnlySpan<char> value)\n" +
+            "%i    {\n" +
+            "%i        int length = value.Length;\n" +
+            "%i        if (length > %3$d)\n" +
+            "%i        {\n" +
+            "%i            throw new InvalidOperationException(\"length > maxValue for type: \" + length);\n" +
+            "%i        }\n\n" +
+            "%i        int headerLength = %4$d;\n" +
+            "%i        int limit = _parentMessage.Limit();\n" +
+            "%i        _parentMessage.Limit(limit + headerLength + length);\n" +
+            "%i        %5$s;\n" +
+            "%i        _buffer.BoundsCheck(limit + headerLength, length);\n" +
+            "%i        if (length > 0)\n" +
+            "%i        {\n" +
+            "%i            fixed (char* chars = value)\n" +
+            "%i            {\n" +
+            "%i                Encoding.ASCII.GetBytes(" +
+            "chars, length, (byte*)_buffer.BufferPointer + limit + headerLength, length);\n" +
+            "%i            }\n" +
+            "%i        }\n\n" +
+            "%i        return this;\n" +
+            "%i    }\n");
+
     private void generateDataEncodeMethods(
             final StringBuilder sb,
             final String propertyName,
             final int sizeOfLengthField,
             final int maxLengthValue,
             final PrimitiveType lengthType,
-            final String byteOrderStr,
+            final ByteOrder byteOrder,
             final String characterEncoding,
             final String className,
             final String indent) {
@@ -1078,7 +1965,7 @@ public class CSharpGenerator implements CodeGenerator {
                 maxLengthValue,
                 readOnlyBuffer,
                 lengthType,
-                byteOrderStr,
+                byteOrder,
                 indent);
 
         generateDataTypedEncoder(
@@ -1089,65 +1976,72 @@ public class CSharpGenerator implements CodeGenerator {
                 maxLengthValue,
                 "byte[]",
                 lengthType,
-                byteOrderStr,
+                byteOrder,
                 indent);
 
+        if (shouldGenerateUnsafeCode) {
+            DATA_SPAN_ENCODER.appendTo(
+                    sb,
+                    indent,
+                    className,
+                    propertyName,
+                    maxLengthValue,
+                    sizeOfLengthField,
+                    generatePut(lengthType, "limit", "length", byteOrder));
+        }
+
         if (null == characterEncoding) {
             return;
         }
 
         if (characterEncoding.contains("ASCII")) {
-            sb.append(String.format(
-                    "\n" +
-                            indent + "    public %1$s %2$s(string value)\n" +
-                            indent + "    {\n" +
-                            indent + "        int length = value.Length;\n" +
-                            indent + "        if (length > %3$d)\n" +
-                            indent + "        {\n" +
-                            indent + "            throw new InvalidOperationException" +
-                            "(\"length > maxValue for type: \" + length);\n" +
-                            indent + "        }\n\n" +
-                            indent + "        int headerLength = %4$d;\n" +
-                            indent + "        int limit = _parentMessage.Limit();\n" +
-                            indent + "        _parentMessage.Limit(limit + headerLength + length);\n" +
-                            indent + "        %5$s;\n" +
-                            indent + "        _buffer.PutStringWithoutLengthAscii(limit + headerLength, value);\n\n" +
-                            indent + "        return this;\n" +
-                            indent + "    }\n",
+            DATA_ASCII_STRING_ENCODER.appendTo(
+                    sb,
+                    indent,
                     className,
                     formatPropertyName(propertyName),
                     maxLengthValue,
                     sizeOfLengthField,
-                    generatePut(lengthType, "limit", "length", byteOrderStr)));
+                    generatePut(lengthType, "limit", "length", byteOrder));
+
+            if (shouldGenerateUnsafeCode) {
+                DATA_ASCII_SPAN_ENCODER.appendTo(
+                        sb,
+                        indent,
+                        className,
+                        formatPropertyName(propertyName),
+                        maxLengthValue,
+                        sizeOfLengthField,
+                        generatePut(lengthType, "limit", "length", byteOrder));
+            }
         } else {
-            sb.append(String.format(
-                    "\n" +
-                            indent + "    public %1$s %2$s(string value)\n" +
-                            indent + "    {\n" +
-                            indent + "        byte[] bytes = %7$s.GetBytes(value);\n" +
-                            indent + "        int length = bytes.Length;\n" +
-                            indent + "        if (length > %4$d)\n" +
-                            indent + "        {\n" +
-                            indent + "            throw new InvalidOperationException" +
-                            "(\"length > maxValue for type: \" + length);\n" +
-                            indent + "        }\n\n" +
-                            indent + "        int headerLength = %5$d;\n" +
-                            indent + "        int limit = _parentMessage.Limit();\n" +
-                            indent + "        _parentMessage.Limit(limit + headerLength + length);\n" +
-                            indent + "        %6$s;\n" +
-                            indent + "        _buffer.PutBytes(limit + headerLength, bytes, 0, length);\n\n" +
-                            indent + "        return this;\n" +
-                            indent + "    }\n",
+            (shouldGenerateUnsafeCode ? DATA_STRING_ENCODER_UNSAFE : DATA_STRING_ENCODER).appendTo(
+                    sb,
+                    indent,
                     className,
                     formatPropertyName(propertyName),
                     characterEncoding,
                     maxLengthValue,
                     sizeOfLengthField,
-                    generatePut(lengthType, "limit", "length", byteOrderStr),
-                    charset(characterEncoding)));
+                    generatePut(lengthType, "limit", "length", byteOrder),
+                    charset(characterEncoding));
         }
     }
 
+    private static final CSharpTemplate DATA_TYPED_DECODER = CSharpTemplate.compile(
+            "\n" +
+            "%i    public int Get%s(%s dst, int dstOffset, int length)\n" +
+            "%i    {\n" +
+            "%s" +
+            "%i        int headerLength = %d;\n" +
+            "%i        int limit = _parentMessage.Limit();\n" +
+            "%i        int dataLength = (int)%s;\n" +
+            "%i        int bytesCopied = Math.Min(length, dataLength);\n" +
+            "%i        _parentMessage.Limit(limit + headerLength + dataLength);\n" +
+            "%i        _buffer.GetBytes(limit + headerLength, dst, dstOffset, bytesCopied);\n\n" +
+            "%i        return bytesCopied;\n" +
+            "%i    }\n");
+
     private void generateDataTypedDecoder(
             final StringBuilder sb,
             final Token token,
@@ -1155,28 +2049,34 @@ public class CSharpGenerator implements CodeGenerator {
             final int sizeOfLengthField,
             final String exchangeType,
             final PrimitiveType lengthType,
-            final String byteOrderStr,
+            final ByteOrder byteOrder,
             final String indent) {
-        sb.append(String.format(
-                "\n" +
-                        indent + "    public int Get%s(%s dst, int dstOffset, int length)\n" +
-                        indent + "    {\n" +
-                        "%s" +
-                        indent + "        int headerLength = %d;\n" +
-                        indent + "        int limit = _parentMessage.Limit();\n" +
-                        indent + "        int dataLength = (int)%s;\n" +
-                        indent + "        int bytesCopied = Math.Min(length, dataLength);\n" +
-                        indent + "        _parentMessage.Limit(limit + headerLength + dataLength);\n" +
-                        indent + "        _buffer.GetBytes(limit + headerLength, dst, dstOffset, bytesCopied);\n\n" +
-                        indent + "        return bytesCopied;\n" +
-                        indent + "    }\n",
+        DATA_TYPED_DECODER.appendTo(
+                sb,
+                indent,
                 propertyName,
                 exchangeType,
                 generateArrayFieldNotPresentCondition(token.version(), indent),
                 sizeOfLengthField,
-                generateGet(lengthType, "limit", byteOrderStr)));
+                generateGet(lengthType, "limit", byteOrder));
     }
 
+    private static final CSharpTemplate DATA_TYPED_ENCODER = CSharpTemplate.compile(
+            "\n" +
+            "%i    public %1$s Put%2$s(%3$s src, int srcOffset, int length)\n" +
+            "%i    {\n" +
+            "%i        if (length > %4$d)\n" +
+            "%i        {\n" +
+            "%i            throw new InvalidOperationException(\"length > maxValue for type: \" + length);\n" +
+            "%i        }\n\n" +
+            "%i        int headerLength = %5$d;\n" +
+            "%i        int limit = _parentMessage.Limit();\n" +
+            "%i        _parentMessage.Limit(limit + headerLength + length);\n" +
+            "%i        %6$s;\n" +
+            "%i        _buffer.PutBytes(limit + headerLength, src, srcOffset, length);\n\n" +
+            "%i        return this;\n" +
+            "%i    }\n");
+
     private void generateDataTypedEncoder(
             final StringBuilder sb,
             final String className,
@@ -1185,29 +2085,17 @@ public class CSharpGenerator implements CodeGenerator {
             final int maxLengthValue,
             final String exchangeType,
             final PrimitiveType lengthType,
-            final String byteOrderStr,
+            final ByteOrder byteOrder,
             final String indent) {
-        sb.append(String.format(
-                "\n" +
-                        indent + "    public %1$s Put%2$s(%3$s src, int srcOffset, int length)\n" +
-                        indent + "    {\n" +
-                        indent + "        if (length > %4$d)\n" +
-                        indent + "        {\n" +
-                        indent + "            throw new InvalidOperationException(\"length > maxValue for type: \" + length);\n" +
-                        indent + "        }\n\n" +
-                        indent + "        int headerLength = %5$d;\n" +
-                        indent + "        int limit = _parentMessage.Limit();\n" +
-                        indent + "        _parentMessage.Limit(limit + headerLength + length);\n" +
-                        indent + "        %6$s;\n" +
-                        indent + "        _buffer.PutBytes(limit + headerLength, src, srcOffset, length);\n\n" +
-                        indent + "        return this;\n" +
-                        indent + "    }\n",
+        DATA_TYPED_ENCODER.appendTo(
+                sb,
+                indent,
                 className,
                 propertyName,
                 exchangeType,
                 maxLengthValue,
                 sizeOfLengthField,
-                generatePut(lengthType, "limit", "length", byteOrderStr)));
+                generatePut(lengthType, "limit", "length", byteOrder));
     }
 
     private void generateBitSet(final List<Token> tokens) throws IOException {
@@ -1217,9 +2105,18 @@ public class CSharpGenerator implements CodeGenerator {
         final String encoderName = encoderName(bitSetName);
         final List<Token> messageBody = getMessageBody(tokens);
 
+        try (Writer out = outputManager.createOutput(bitSetName)) {
+            out.append(FLAGS_ENUM_FILE_HEADER.render(BASE_INDENT, namespace()));
+            out.append(generateEnumDeclaration(bitSetName, bitsetArgType(token.encoding().primitiveType()), true));
+            out.append(generateFlagsEnumValues(messageBody));
+            out.append(INDENT + "}\n");
+            out.append("}\n");
+        }
+
         try (Writer out = outputManager.createOutput(decoderName)) {
             generateFixedFlyweightHeader(token, decoderName, out, readOnlyBuffer, fqReadOnlyBuffer);
             out.append(generateChoiceDecoders(messageBody));
+            out.append(generateChoiceRawDecoder(bitSetName, token));
             out.append(generateChoiceDisplay(messageBody));
             out.append("}\n");
             out.append("}\n");
@@ -1229,18 +2126,42 @@ public class CSharpGenerator implements CodeGenerator {
             generateFixedFlyweightHeader(token, encoderName, out, mutableBuffer, fqMutableBuffer);
             out.append(generateChoiceClear(encoderName, token));
             out.append(generateChoiceEncoders(encoderName, messageBody));
+            out.append(generateChoiceRawEncoder(bitSetName, encoderName, token, messageBody));
             out.append("}\n");
             out.append("}\n");
         }
     }
 
+    private static final CSharpTemplate FLAGS_ENUM_FILE_HEADER = CSharpTemplate.compile(
+            "/* Generated SBE (Simple Binary Encoding) message codec */\n" +
+            "using System;\n\n" +
+            "namespace %s {\n\n");
+
+    private static CharSequence generateFlagsEnumValues(final List<Token> tokens) {
+        final StringBuilder sb = new StringBuilder();
+
+        for (final Token token : tokens) {
+            if (token.signal() == Signal.CHOICE) {
+                final Encoding encoding = token.encoding();
+                final long mask = 1L << Integer.parseInt(encoding.constValue().toString());
+
+                sb.append(INDENT).append(INDENT).append(formatPropertyName(token.name())).append(" = 0x")
+                        .append(Long.toHexString(mask))
+                        .append(encoding.primitiveType() == PrimitiveType.UINT64 ? "UL" : "")
+                        .append(",\n");
+            }
+        }
+
+        return sb;
+    }
+
     private void generateFixedFlyweightHeader(
             final Token token,
             final String typeName,
             final Writer out,
             final String buffer,
             final String fqBuffer) throws IOException {
-        out.append(generateFileHeader(namespace(), fqBuffer));
+        out.append(generateFileHeader(namespace(), fqBuffer, optionalImportLines()));
         out.append(generateDeclaration(typeName, ""));
         out.append(generateFixedFlyweightCode(typeName, token.encodedLength(), buffer));
     }
@@ -1252,8 +2173,9 @@ public class CSharpGenerator implements CodeGenerator {
             final String buffer,
             final String fqBuffer,
             final String implementsString,
-            final String compositeReturnType) throws IOException {
-        out.append(generateFileHeader(namespace(), fqBuffer));
+            final String compositeReturnType,
+            final CharSequence importLines) throws IOException {
+        out.append(generateFileHeader(namespace(), fqBuffer, importLines));
         out.append(generateDeclaration(typeName, implementsString));
         out.append(generateCompositeFlyweightCode(typeName, token.encodedLength(), buffer, compositeReturnType));
     }
@@ -1278,11 +2200,22 @@ public class CSharpGenerator implements CodeGenerator {
         final String compositeName = formatClassName(token.applicableTypeName());
         final String decoderName = decoderName(compositeName);
         final String encoderName = encoderName(compositeName);
+        final boolean isMessageHeader =
+                token.applicableTypeName().equals(ir.headerStructure().tokens().get(0).applicableTypeName());
 
         try (Writer out = outputManager.createOutput(decoderName)) {
             final String implementsString = implementsInterface(GEN_COMPOSITE_DECODER_FLYWEIGHT);
+            final CharSequence importLines = isMessageHeader ?
+                    "using System.Buffers.Binary;\n" + optionalImportLines() : optionalImportLines();
             generateCompositeFlyweightHeader(
-                    token, decoderName, out, readOnlyBuffer, fqReadOnlyBuffer, implementsString, "ICompositeDecoderFlyweight");
+                    token,
+                    decoderName,
+                    out,
+                    readOnlyBuffer,
+                    fqReadOnlyBuffer,
+                    implementsString,
+                    "ICompositeDecoderFlyweight",
+                    importLines);
 
             for (int i = 1, end = tokens.size() - 1; i < end; ) {
                 final Token encodingToken = tokens.get(i);
@@ -1320,13 +2253,25 @@ public class CSharpGenerator implements CodeGenerator {
 
             out.append(generateCompositeDecoderDisplay(tokens, BASE_INDENT));
 
+            if (isMessageHeader) {
+                out.append(generateMessageHeaderPeek(tokens, token.encodedLength()));
+            }
+
             out.append("}\n");
             out.append("}\n");
         }
 
         try (Writer out = outputManager.createOutput(encoderName)) {
             final String implementsString = implementsInterface(GEN_COMPOSITE_ENCODER_FLYWEIGHT);
-            generateCompositeFlyweightHeader(token, encoderName, out, mutableBuffer, fqMutableBuffer, implementsString, "IEncoderFlyweight");
+            generateCompositeFlyweightHeader(
+                    token,
+                    encoderName,
+                    out,
+                    mutableBuffer,
+                    fqMutableBuffer,
+                    implementsString,
+                    "IEncoderFlyweight",
+                    optionalImportLines());
 
             for (int i = 1, end = tokens.size() - 1; i < end; ) {
                 final Token encodingToken = tokens.get(i);
@@ -1366,28 +2311,234 @@ public class CSharpGenerator implements CodeGenerator {
             out.append("}\n");
             out.append("}\n");
         }
+
+        if (null != spanDecoderGenerator) {
+            spanDecoderGenerator.generateComposite(tokens);
+        }
     }
 
+    private static final CSharpTemplate HEADER_PEEK = CSharpTemplate.compile(
+            "\n" +
+            "    /// <summary>\n" +
+            "    /// Read the %2$s field of the message header at the start of <paramref name=\"buffer\"/>\n" +
+            "    /// without wrapping a decoder.\n" +
+            "    /// </summary>\n" +
+            "    public static %1$s Peek%2$s(ReadOnlySpan<byte> buffer)\n" +
+            "    {\n" +
+            "        return %3$s;\n" +
+            "    }\n");
+
+    private static final CSharpTemplate HEADER_TRY_READ = CSharpTemplate.compile(
+            "\n" +
+            "    /// <summary>\n" +
+            "    /// Read the fields of the message header at the start of <paramref name=\"buffer\"/> without wrapping\n" +
+            "    /// a decoder.\n" +
+            "    /// </summary>\n" +
+            "    /// <returns>false if the buffer is shorter than the header.</returns>\n" +
+            "    public static bool TryReadHeader(\n" +
+            "        ReadOnlySpan<byte> buffer,\n" +
+            "%1$s" +
+            "    {\n" +
+            "        if (buffer.Length < ENCODED_LENGTH)\n" +
+            "        {\n" +
+            "%2$s" +
+            "            return false;\n" +
+            "        }\n\n" +
+            "%3$s" +
+            "        return true;\n" +
+            "    }\n");
+
+    /**
+     * Generate static helpers to read the standard fields of the message header straight from a span. When the
+     * header fits a ulong, as the standard 8 byte header does, TryReadHeader reads it in a single load.
+     */
+    private static CharSequence generateMessageHeaderPeek(final List<Token> tokens, final int headerLength) {
+        final String[] fieldNames = {
+            HeaderStructure.BLOCK_LENGTH,
+            HeaderStructure.TEMPLATE_ID,
+            HeaderStructure.SCHEMA_ID,
+            HeaderStructure.SCHEMA_VERSION
+        };
+
+        final List<Token> fieldTokens = new ArrayList<>();
+        boolean isWideLoadable = headerLength == 8;
+        for (final String fieldName : fieldNames) {
+            for (final Token token : tokens) {
+                if (token.signal() == Signal.ENCODING && token.name().equals(fieldName)) {
+                    final PrimitiveType type = token.encoding().primitiveType();
+                    isWideLoadable &= type != PrimitiveType.FLOAT && type != PrimitiveType.DOUBLE;
+                    fieldTokens.add(token);
+                    break;
+                }
+            }
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        final StringBuilder parameters = new StringBuilder();
+        final StringBuilder defaults = new StringBuilder();
+        final StringBuilder reads = new StringBuilder();
+        if (isWideLoadable) {
+            final ByteOrder byteOrder = fieldTokens.get(0).encoding().byteOrder();
+            reads.append("        ulong header = BinaryPrimitives.ReadUInt64")
+                .append(ByteOrder.BIG_ENDIAN == byteOrder ? "BigEndian" : "LittleEndian").append("(buffer);\n");
+        }
+
+        for (int i = 0, size = fieldTokens.size(); i < size; i++) {
+            final Token token = fieldTokens.get(i);
+            final Encoding encoding = token.encoding();
+            final String typeName = csharpTypeName(encoding.primitiveType());
+            final String propertyName = formatPropertyName(token.name());
+            final String parameterName = toLowerFirstChar(propertyName);
+
+            HEADER_PEEK.appendTo(
+                    sb,
+                    BASE_INDENT,
+                    typeName,
+                    propertyName,
+                    CSharpSpanDecoderGenerator.generateGet(
+                            encoding.primitiveType(), "buffer", String.valueOf(token.offset()), encoding.byteOrder()));
+
+            parameters.append("        out ").append(typeName).append(' ').append(parameterName)
+                .append(i < size - 1 ? ",\n" : ")\n");
+            defaults.append("            ").append(parameterName).append(" = 0;\n");
+
+            reads.append("        ").append(parameterName).append(" = ");
+            if (isWideLoadable) {
+                final int shift = ByteOrder.BIG_ENDIAN == encoding.byteOrder() ?
+                        8 * (headerLength - token.offset() - token.encodedLength()) : 8 * token.offset();
+                reads.append("unchecked((").append(typeName).append(')')
+                    .append(0 == shift ? "header" : "(header >> " + shift + ")").append(");\n");
+            } else {
+                reads.append("Peek").append(propertyName).append("(buffer);\n");
+            }
+        }
+        reads.append('\n');
+
+        HEADER_TRY_READ.appendTo(sb, BASE_INDENT, parameters, defaults, reads);
+
+        return sb;
+    }
+
+    private static final CSharpTemplate CHOICE_CLEAR = CSharpTemplate.compile(
+            "\n" +
+            "    public %s Clear()\n" +
+            "    {\n" +
+            "        %s;\n" +
+            "        return this;\n" +
+            "    }\n");
+
     private CharSequence generateChoiceClear(final String bitSetClassName, final Token token) {
         final StringBuilder sb = new StringBuilder();
 
         final Encoding encoding = token.encoding();
         final String literalValue = generateLiteral(encoding.primitiveType(), "0");
-        final String byteOrderStr = byteOrderString(encoding);
-
-        sb.append(String.format(
-                "\n" +
-                        "    public %s Clear()\n" +
-                        "    {\n" +
-                        "        %s;\n" +
-                        "        return this;\n" +
-                        "    }\n",
+        final ByteOrder byteOrder = encoding.byteOrder();
+
+        CHOICE_CLEAR.appendTo(
+                sb,
+                BASE_INDENT,
                 bitSetClassName,
-                generatePut(encoding.primitiveType(), "_offset", literalValue, byteOrderStr)));
+                generatePut(encoding.primitiveType(), "_offset", literalValue, byteOrder));
 
         return sb;
     }
 
+    private static final CSharpTemplate CHOICE_RAW_DECODER = CSharpTemplate.compile(
+            "\n" +
+            "    public %2$s Raw()\n" +
+            "    {\n" +
+            "        return %3$s;\n" +
+            "    }\n\n" +
+            "    public %1$s Get()\n" +
+            "    {\n" +
+            "        return (%1$s)Raw();\n" +
+            "    }\n");
+
+    private CharSequence generateChoiceRawDecoder(final String bitSetName, final Token token) {
+        final Encoding encoding = token.encoding();
+
+        return CHOICE_RAW_DECODER.render(
+                BASE_INDENT,
+                bitSetName,
+                bitsetArgType(encoding.primitiveType()),
+                generateGet(encoding.primitiveType(), "_offset", ir.byteOrder()));
+    }
+
+    private static final CSharpTemplate CHOICE_RAW_ENCODER = CSharpTemplate.compile(
+            "\n" +
+            "    public %2$s Raw(%3$s value)\n" +
+            "    {\n" +
+            "        %4$s;\n" +
+            "        return this;\n" +
+            "    }\n\n" +
+            "    public %2$s Set(%1$s value)\n" +
+            "    {\n" +
+            "        return Raw((%3$s)value);\n" +
+            "    }\n\n" +
+            "    /// <summary>\n" +
+            "    /// Start collecting choices in a <see cref=\"Builder\"/>, which writes them all with a single store when\n" +
+            "    /// applied. Choices which are not set on the builder are cleared.\n" +
+            "    /// </summary>\n" +
+            "    public Builder Begin()\n" +
+            "    {\n" +
+            "        return new Builder(this);\n" +
+            "    }\n\n" +
+            "    public ref struct Builder\n" +
+            "    {\n" +
+            "        private readonly %2$s _encoder;\n" +
+            "        private %1$s _value;\n\n" +
+            "        internal Builder(%2$s encoder)\n" +
+            "        {\n" +
+            "            _encoder = encoder;\n" +
+            "            _value = 0;\n" +
+            "        }\n" +
+            "%5$s\n" +
+            "        public %2$s Apply()\n" +
+            "        {\n" +
+            "            return _encoder.Set(_value);\n" +
+            "        }\n" +
+            "    }\n");
+
+    private static final CSharpTemplate CHOICE_BUILDER = CSharpTemplate.compile(
+            "\n" +
+            "        public Builder %2$s(bool value)\n" +
+            "        {\n" +
+            "            _value = value ? _value | %1$s.%2$s : _value & ~%1$s.%2$s;\n" +
+            "            return this;\n" +
+            "        }\n");
+
+    private CharSequence generateChoiceRawEncoder(
+            final String bitSetName, final String bitSetClassName, final Token token, final List<Token> tokens) {
+        final Encoding encoding = token.encoding();
+        final StringBuilder builderMethods = new StringBuilder();
+
+        for (final Token choiceToken : tokens) {
+            if (choiceToken.signal() == Signal.CHOICE) {
+                CHOICE_BUILDER.appendTo(
+                        builderMethods, BASE_INDENT, bitSetName, formatPropertyName(choiceToken.name()));
+            }
+        }
+
+        return CHOICE_RAW_ENCODER.render(
+                BASE_INDENT,
+                bitSetName,
+                bitSetClassName,
+                bitsetArgType(encoding.primitiveType()),
+                generatePut(encoding.primitiveType(), "_offset", "value", ir.byteOrder()),
+                builderMethods);
+    }
+
+    private static final CSharpTemplate CHOICE_DECODER = CSharpTemplate.compile(
+            "\n" +
+            "    public bool %1$s()\n" +
+            "    {\n" +
+            "        return %2$s;\n" +
+            "    }\n\n" +
+            "    public static bool %1$s(%3$s value)\n" +
+            "    {\n" +
+            "        return %4$s;\n" +
+            "    }\n");
+
     private CharSequence generateChoiceDecoders(final List<Token> tokens) {
         final StringBuilder sb = new StringBuilder();
 
@@ -1398,29 +2549,35 @@ public class CSharpGenerator implements CodeGenerator {
                 final String choiceName = formatPropertyName(token.name());
                 final Encoding encoding = token.encoding();
                 final String choiceBitIndex = encoding.constValue().toString();
-                final String byteOrderStr = byteOrderString(encoding);
+                final ByteOrder byteOrder = encoding.byteOrder();
                 final PrimitiveType primitiveType = encoding.primitiveType();
                 final String argType = bitsetArgType(primitiveType);
 
-                sb.append(String.format("\n" +
-                                "    public bool %1$s()\n" +
-                                "    {\n" +
-                                "        return %2$s;\n" +
-                                "    }\n\n" +
-                                "    public static bool %1$s(%3$s value)\n" +
-                                "    {\n" +
-                                "        return %4$s;\n" +
-                                "    }\n",
+                CHOICE_DECODER.appendTo(
+                        sb,
+                        BASE_INDENT,
                         choiceName,
-                        generateChoiceGet(primitiveType, choiceBitIndex, byteOrderStr),
+                        generateChoiceGet(primitiveType, choiceBitIndex, byteOrder),
                         argType,
-                        generateStaticChoiceGet(primitiveType, choiceBitIndex)));
+                        generateStaticChoiceGet(primitiveType, choiceBitIndex));
             }
         }
 
         return sb;
     }
 
+    private static final CSharpTemplate CHOICE_ENCODER = CSharpTemplate.compile(
+            "\n" +
+            "    public %1$s %2$s(bool value)\n" +
+            "    {\n" +
+            "%3$s\n" +
+            "        return this;\n" +
+            "    }\n\n" +
+            "    public static %4$s %2$s(%4$s bits, bool value)\n" +
+            "    {\n" +
+            "%5$s" +
+            "    }\n");
+
     private CharSequence generateChoiceEncoders(final String bitSetClassName, final List<Token> tokens) {
         final StringBuilder sb = new StringBuilder();
 
@@ -1431,26 +2588,18 @@ public class CSharpGenerator implements CodeGenerator {
                 final String choiceName = formatPropertyName(token.name());
                 final Encoding encoding = token.encoding();
                 final String choiceBitIndex = encoding.constValue().toString();
-                final String byteOrderStr = byteOrderString(encoding);
+                final ByteOrder byteOrder = encoding.byteOrder();
                 final PrimitiveType primitiveType = encoding.primitiveType();
                 final String argType = bitsetArgType(primitiveType);
 
-                sb.append(String.format(
-                        "\n" +
-                                "    public %1$s %2$s(bool value)\n" +
-                                "    {\n" +
-                                "%3$s\n" +
-                                "        return this;\n" +
-                                "    }\n\n" +
-                                "    public static %4$s %2$s(%4$s bits, bool value)\n" +
-                                "    {\n" +
-                                "%5$s" +
-                                "    }\n",
+                CHOICE_ENCODER.appendTo(
+                        sb,
+                        BASE_INDENT,
                         bitSetClassName,
                         choiceName,
-                        generateChoicePut(encoding.primitiveType(), choiceBitIndex, byteOrderStr),
+                        generateChoicePut(encoding.primitiveType(), choiceBitIndex, byteOrder),
                         argType,
-                        generateStaticChoicePut(encoding.primitiveType(), choiceBitIndex)));
+                        generateStaticChoicePut(encoding.primitiveType(), choiceBitIndex));
             }
         }
 
@@ -1492,110 +2641,69 @@ public class CSharpGenerator implements CodeGenerator {
         return sb;
     }
 
-    private CharSequence generateEnumBody(final Token token, final String enumName) {
-        final String javaEncodingType = primitiveTypeName(token);
-
-        return String.format(
-                "    private %1$s value;\n\n" +
-                        "    %2$s(%1$s value)\n" +
-                        "    {\n" +
-                        "        this._value = value;\n" +
-                        "    }\n\n" +
-                        "    public %1$s value()\n" +
-                        "    {\n" +
-                        "        return value;\n" +
-                        "    }\n\n",
-                javaEncodingType,
-                enumName);
-    }
-
-    private CharSequence generateEnumLookupMethod(final List<Token> tokens, final String enumName) {
-        final StringBuilder sb = new StringBuilder();
-
-        final PrimitiveType primitiveType = tokens.get(0).encoding().primitiveType();
-        sb.append(String.format(
-                "    public static %s Get(%s value)\n" +
-                        "    {\n" +
-                        "        switch (value)\n" +
-                        "        {\n",
-                enumName,
-                csharpTypeName(primitiveType)));
-
-        for (final Token token : tokens) {
-            sb.append(String.format(
-                    "            case %s: return %s;\n",
-                    token.encoding().constValue().toString(),
-                    token.name()));
-        }
-
-        final String handleUnknownLogic = shouldDecodeUnknownEnumValues ?
-                INDENT + INDENT + "return SBE_UNKNOWN;\n" :
-                INDENT + INDENT + "throw new ArgumentException(\"Unknown value: \" + value);\n";
-
-        sb.append(String.format(
-                "        }\n\n" +
-                        "        if (%s == value)\n" +
-                        "        {\n" +
-                        "            return NULL_VAL;\n" +
-                        "        }\n\n" +
-                        "%s" +
-                        "    }\n",
-                generateLiteral(primitiveType, tokens.get(0).encoding().applicableNullValue().toString()),
-                handleUnknownLogic));
-
-        return sb;
-    }
+    private static final CSharpTemplate INTERFACE_IMPORT_LINE = CSharpTemplate.compile(
+            "using %s;\n\n");
 
     private CharSequence interfaceImportLine() {
         if (!shouldGenerateInterfaces) {
             return "\n";
         }
 
-        return String.format("using %s;\n\n", CSHARP_INTERFACE_PACKAGE);
+        return INTERFACE_IMPORT_LINE.render(BASE_INDENT, CSHARP_INTERFACE_PACKAGE);
     }
 
-    private CharSequence generateFileHeader(final String packageName, final String fqBuffer) {
-        return String.format(
-                "/* Generated SBE (Simple Binary Encoding) message codec */\n" +
-                        "using System;\n" +
-                        "using System.Text;\n" +
-                        "using %s;\n" +
-                        "%s" +
-                        "namespace %s {\n",
-                fqBuffer,
-                interfaceImportLine(),
-                packageName);
+    private CharSequence optionalImportLines() {
+        return shouldGenerateUnsafeCode ? "using System.Runtime.InteropServices;\n" : "";
     }
 
+    private static final CSharpTemplate FILE_HEADER = CSharpTemplate.compile(
+            "/* Generated SBE (Simple Binary Encoding) message codec */\n" +
+            "using System;\n" +
+            "using System.Text;\n" +
+            "%s" +
+            "using %s;\n" +
+            "%s" +
+            "namespace %s {\n");
+
+    private CharSequence generateFileHeader(
+            final String packageName, final String fqBuffer, final CharSequence importLines) {
+        return FILE_HEADER.render(BASE_INDENT, importLines, fqBuffer, interfaceImportLine(), packageName);
+    }
+
+    private static final CSharpTemplate MAIN_HEADER = CSharpTemplate.compile(
+            "/* Generated SBE (Simple Binary Encoding) message codec */\n" +
+            "using System;\n" +
+            "using System.Text;\n" +
+            "using System.Collections.Generic;\n" +
+            "using System.Collections;\n" +
+            "%s" +
+            "using %s;\n" +
+            "%s\n" +
+            "namespace %s {\n\n");
+
+    private static final CSharpTemplate MAIN_HEADER_WITH_BUFFER_NAMESPACES = CSharpTemplate.compile(
+            "/* Generated SBE (Simple Binary Encoding) message codec */\n" +
+            "using System;\n" +
+            "using System.Text;\n" +
+            "using System.Collections.Generic;\n" +
+            "%s" +
+            "using %s;\n" +
+            "using %s;\n" +
+            "%s\n" +
+            "namespace %s {\n\n");
+
     private CharSequence generateMainHeader(final String packageName) {
         if (fqMutableBuffer.equals(fqReadOnlyBuffer)) {
-            return String.format(
-                    "/* Generated SBE (Simple Binary Encoding) message codec */\n" +
-                            "using System;\n" +
-                            "using System.Text;\n" +
-                            "using System.Collections.Generic;\n" +
-                            "using System.Collections;\n" +
-                            "using %s;\n" +
-                            "%s\n" +
-                            "namespace %s {\n\n",
-                    fqMutableBuffer,
-                    interfaceImportLine(),
-                    packageName);
+            return MAIN_HEADER.render(
+                    BASE_INDENT, optionalImportLines(), fqMutableBuffer, interfaceImportLine(), packageName);
         } else {
-            return String.format(
-                    "/* Generated SBE (Simple Binary Encoding) message codec */\n" +
-                            "using System;\n" +
-                            "using System.Text;\n" +
-                            "using System.Collections.Generic;\n" +
-                            "using %s;\n" +
-                            "using %s;\n" +
-                            "%s\n" +
-                            "namespace %s {\n\n",
+            return MAIN_HEADER_WITH_BUFFER_NAMESPACES.render(
+                    BASE_INDENT,
+                    optionalImportLines(),
                     fqMutableBuffer,
                     fqReadOnlyBuffer,
                     interfaceImportLine(),
-                    packageName
-            );
+                    packageName);
         }
     }
 
@@ -1638,23 +2746,406 @@ public class CSharpGenerator implements CodeGenerator {
         }
     }
 
+    private static final CSharpTemplate META_ATTRIBUTE_ENUM_CODE = CSharpTemplate.compile(
+            "/* Generated SBE (Simple Binary Encoding) message codec */\n" +
+            "namespace %s {\n\n" +
+            "public enum MetaAttribute\n" +
+            "{\n" +
+            "    EPOCH,\n" +
+            "    TIME_UNIT,\n" +
+            "    SEMANTIC_TYPE,\n" +
+            "    PRESENCE\n" +
+            "}\n" +
+            "}\n");
+
     private void generateMetaAttributeEnum() throws IOException {
         try (Writer out = outputManager.createOutput(META_ATTRIBUTE_ENUM)) {
-            out.append(String.format(
-                    "/* Generated SBE (Simple Binary Encoding) message codec */\n" +
-                            "namespace %s {\n\n" +
-                            "public enum MetaAttribute\n" +
-                            "{\n" +
-                            "    EPOCH,\n" +
-                            "    TIME_UNIT,\n" +
-                            "    SEMANTIC_TYPE,\n" +
-                            "    PRESENCE\n" +
-                            "}\n" +
-                            "}\n",
-                    namespace()));
+            out.append(META_ATTRIBUTE_ENUM_CODE.render(BASE_INDENT, namespace()));
+        }
+    }
+
+    private static final CSharpTemplate STRING_INTERN_POOL_CODE = CSharpTemplate.compile(
+            "/* Generated SBE (Simple Binary Encoding) message codec */\n" +
+            "using System;\n" +
+            "using System.Text;\n" +
+            "using %2$s;\n\n" +
+            "namespace %1$s {\n\n" +
+            "/// <summary>\n" +
+            "/// Bounded cache of decoded strings keyed by their encoded bytes. The generated string accessors decode\n" +
+            "/// through it so a repeated value is returned as the cached string without allocating. Each slot holds\n" +
+            "/// the last value hashed to it and values longer than the maximum length are never cached.\n" +
+            "/// A pool is not thread safe, the accessors use the pool of the current thread.\n" +
+            "/// </summary>\n" +
+            "public sealed class StringInternPool\n" +
+            "{\n" +
+            "    public const int DEFAULT_CAPACITY = 4096;\n" +
+            "    public const int DEFAULT_MAX_LENGTH = 64;\n\n" +
+            "    [ThreadStatic]\n" +
+            "    private static StringInternPool _current;\n\n" +
+            "    private readonly Entry[] _entries;\n" +
+            "    private readonly int _mask;\n" +
+            "    private readonly int _maxLength;\n" +
+            "    private long _hits;\n" +
+            "    private long _misses;\n\n" +
+            "    public StringInternPool(int capacity, int maxLength)\n" +
+            "    {\n" +
+            "        if (capacity < 1 || capacity > (1 << 30))\n" +
+            "        {\n" +
+            "            throw new ArgumentOutOfRangeException(\"capacity\", \"capacity=\" + capacity);\n" +
+            "        }\n\n" +
+            "        int size = 1;\n" +
+            "        while (size < capacity)\n" +
+            "        {\n" +
+            "            size <<= 1;\n" +
+            "        }\n\n" +
+            "        _entries = new Entry[size];\n" +
+            "        _mask = size - 1;\n" +
+            "        _maxLength = maxLength;\n" +
+            "    }\n\n" +
+            "    /// <summary>\n" +
+            "    /// The pool used by the generated accessors on the current thread, created with the default sizes on\n" +
+            "    /// first use. It may be replaced to size the pool for the values of a particular feed.\n" +
+            "    /// </summary>\n" +
+            "    public static StringInternPool Current\n" +
+            "    {\n" +
+            "        get { return _current ?? (_current = new StringInternPool(DEFAULT_CAPACITY, DEFAULT_MAX_LENGTH)); }\n" +
+            "        set { _current = value; }\n" +
+            "    }\n\n" +
+            "    public int Capacity()\n" +
+            "    {\n" +
+            "        return _entries.Length;\n" +
+            "    }\n\n" +
+            "    public int MaxLength()\n" +
+            "    {\n" +
+            "        return _maxLength;\n" +
+            "    }\n\n" +
+            "    public long Hits()\n" +
+            "    {\n" +
+            "        return _hits;\n" +
+            "    }\n\n" +
+            "    public long Misses()\n" +
+            "    {\n" +
+            "        return _misses;\n" +
+            "    }\n\n" +
+            "    public void ResetCounters()\n" +
+            "    {\n" +
+            "        _hits = 0;\n" +
+            "        _misses = 0;\n" +
+            "    }\n\n" +
+            "    public void Clear()\n" +
+            "    {\n" +
+            "        Array.Clear(_entries, 0, _entries.Length);\n" +
+            "    }\n\n" +
+            "    public string Intern(%3$s buffer, int index, int length, Encoding encoding)\n" +
+            "    {\n" +
+            "        if (length == 0)\n" +
+            "        {\n" +
+            "            return \"\";\n" +
+            "        }\n\n" +
+            "        if (length > _maxLength)\n" +
+            "        {\n" +
+            "            ++_misses;\n" +
+            "            return encoding.GetString(Copy(buffer, index, length));\n" +
+            "        }\n\n" +
+            "        uint hash = 2166136261;\n" +
+            "        for (int i = 0; i < length; i++)\n" +
+            "        {\n" +
+            "            hash = unchecked((hash ^ buffer.GetByte(index + i)) * 16777619u);\n" +
+            "        }\n\n" +
+            "        int slot = (int)(hash & (uint)_mask);\n" +
+            "        Entry entry = _entries[slot];\n" +
+            "        if (entry != null && entry.Hash == hash && entry.Encoding == encoding &&\n" +
+            "            entry.Matches(buffer, index, length))\n" +
+            "        {\n" +
+            "            ++_hits;\n" +
+            "            return entry.Value;\n" +
+            "        }\n\n" +
+            "        ++_misses;\n" +
+            "        byte[] bytes = Copy(buffer, index, length);\n" +
+            "        string value = encoding.GetString(bytes);\n" +
+            "        _entries[slot] = new Entry(hash, bytes, encoding, value);\n\n" +
+            "        return value;\n" +
+            "    }\n\n" +
+            "    public string InternNullTerminated(%3$s buffer, int index, int maxLength, Encoding encoding)\n" +
+            "    {\n" +
+            "        int length = 0;\n" +
+            "        while (length < maxLength && buffer.GetByte(index + length) != 0)\n" +
+            "        {\n" +
+            "            ++length;\n" +
+            "        }\n\n" +
+            "        return Intern(buffer, index, length, encoding);\n" +
+            "    }\n\n" +
+            "    private static byte[] Copy(%3$s buffer, int index, int length)\n" +
+            "    {\n" +
+            "        byte[] bytes = new byte[length];\n" +
+            "        buffer.GetBytes(index, bytes, 0, length);\n\n" +
+            "        return bytes;\n" +
+            "    }\n\n" +
+            "    private sealed class Entry\n" +
+            "    {\n" +
+            "        public readonly uint Hash;\n" +
+            "        public readonly byte[] Bytes;\n" +
+            "        public readonly Encoding Encoding;\n" +
+            "        public readonly string Value;\n\n" +
+            "        public Entry(uint hash, byte[] bytes, Encoding encoding, string value)\n" +
+            "        {\n" +
+            "            Hash = hash;\n" +
+            "            Bytes = bytes;\n" +
+            "            Encoding = encoding;\n" +
+            "            Value = value;\n" +
+            "        }\n\n" +
+            "        public bool Matches(%3$s buffer, int index, int length)\n" +
+            "        {\n" +
+            "            if (Bytes.Length != length)\n" +
+            "            {\n" +
+            "                return false;\n" +
+            "            }\n\n" +
+            "            for (int i = 0; i < length; i++)\n" +
+            "            {\n" +
+            "                if (Bytes[i] != buffer.GetByte(index + i))\n" +
+            "                {\n" +
+            "                    return false;\n" +
+            "                }\n" +
+            "            }\n\n" +
+            "            return true;\n" +
+            "        }\n" +
+            "    }\n" +
+            "}\n" +
+            "}\n");
+
+    private void generateStringInternPool() throws IOException {
+        try (Writer out = outputManager.createOutput(STRING_INTERN_POOL)) {
+            out.append(STRING_INTERN_POOL_CODE.render(BASE_INDENT, namespace(), fqReadOnlyBuffer, readOnlyBuffer));
         }
     }
 
+    private static final CSharpTemplate SCHEMA_BYTE_ORDER_CODE = CSharpTemplate.compile(
+            "/* Generated SBE (Simple Binary Encoding) message codec */\n" +
+            "using System;\n" +
+            "using System.Buffers.Binary;\n" +
+            "using System.Runtime.CompilerServices;\n\n" +
+            "namespace %1$s {\n\n" +
+            "/// <summary>\n" +
+            "/// Converts values between the native byte order of the buffer accessors and the %2$s byte order of\n" +
+            "/// the schema. BitConverter.IsLittleEndian is a constant to the JIT, so each conversion compiles to nothing\n" +
+            "/// when the two orders match and to a byte swap when they do not.\n" +
+            "/// </summary>\n" +
+            "public static class SchemaByteOrder\n" +
+            "{\n" +
+            "%3$s" +
+            "}\n" +
+            "}\n");
+
+    private static final CSharpTemplate SCHEMA_BYTE_ORDER_CONVERT = CSharpTemplate.compile(
+            "    [MethodImpl(MethodImplOptions.AggressiveInlining)]\n" +
+            "    public static %1$s Convert(%1$s value)\n" +
+            "    {\n" +
+            "        return %2$s ? value : BinaryPrimitives.ReverseEndianness(value);\n" +
+            "    }\n\n");
+
+    private static final CSharpTemplate SCHEMA_BYTE_ORDER_CONVERT_FLOATING_POINT = CSharpTemplate.compile(
+            "    [MethodImpl(MethodImplOptions.AggressiveInlining)]\n" +
+            "    public static %1$s Convert(%1$s value)\n" +
+            "    {\n" +
+            "        return %2$s ?\n" +
+            "            value : BitConverter.Int%3$dBitsTo%4$s(BinaryPrimitives.ReverseEndianness(BitConverter.%4$sToInt%3$dBits(value)));\n" +
+            "    }\n\n");
+
+    private static final CSharpTemplate SCHEMA_BYTE_ORDER_COPY = CSharpTemplate.compile(
+            "    public static void Copy(ReadOnlySpan<%1$s> src, Span<%1$s> dst)\n" +
+            "    {\n" +
+            "        if (%2$s)\n" +
+            "        {\n" +
+            "            src.CopyTo(dst);\n" +
+            "            return;\n" +
+            "        }\n\n" +
+            "%3$s" +
+            "    }\n\n");
+
+    private void generateSchemaByteOrder() throws IOException {
+        final boolean isBigEndian = ByteOrder.BIG_ENDIAN == ir.byteOrder();
+        final String isNative = isBigEndian ? "!BitConverter.IsLittleEndian" : "BitConverter.IsLittleEndian";
+        final String[] integerTypes = { "short", "ushort", "int", "uint", "long", "ulong" };
+        final StringBuilder methods = new StringBuilder();
+
+        for (final String type : integerTypes) {
+            SCHEMA_BYTE_ORDER_CONVERT.appendTo(methods, BASE_INDENT, type, isNative);
+        }
+
+        if (!isBigEndian) {
+            SCHEMA_BYTE_ORDER_CONVERT_FLOATING_POINT.appendTo(methods, BASE_INDENT, "float", isNative, 32, "Single");
+            SCHEMA_BYTE_ORDER_CONVERT_FLOATING_POINT.appendTo(methods, BASE_INDENT, "double", isNative, 64, "Double");
+        }
+
+        if (shouldGenerateUnsafeCode) {
+            final String reverse = isBigEndian ?
+                    "        BinaryPrimitives.ReverseEndianness(src, dst);\n" :
+                    "        for (int i = 0; i < src.Length; i++)\n" +
+                    "        {\n" +
+                    "            dst[i] = BinaryPrimitives.ReverseEndianness(src[i]);\n" +
+                    "        }\n";
+
+            for (final String type : integerTypes) {
+                SCHEMA_BYTE_ORDER_COPY.appendTo(methods, BASE_INDENT, type, isNative, reverse);
+            }
+        }
+
+        methods.setLength(methods.length() - 1);
+
+        try (Writer out = outputManager.createOutput(SCHEMA_BYTE_ORDER)) {
+            out.append(SCHEMA_BYTE_ORDER_CODE.render(
+                    BASE_INDENT, namespace(), isBigEndian ? "big endian" : "little endian", methods));
+        }
+    }
+
+    private static final CSharpTemplate MESSAGE_DISPATCHER_CODE = CSharpTemplate.compile(
+            "/* Generated SBE (Simple Binary Encoding) message codec */\n" +
+            "using System;\n" +
+            "using %2$s;\n\n" +
+            "namespace %1$s {\n\n" +
+            "/// <summary>\n" +
+            "/// Receives the messages routed by <see cref=\"MessageDispatcher\"/>, one method per message of the schema.\n" +
+            "/// The decoder passed is owned by the dispatcher and is only valid until the method returns.\n" +
+            "/// </summary>\n" +
+            "public interface IMessageHandler\n" +
+            "{\n" +
+            "%5$s" +
+            "}\n\n" +
+            "/// <summary>\n" +
+            "/// Reads the message header once and routes the message on its template id to the matching method of an\n" +
+            "/// <see cref=\"IMessageHandler\"/>. A decoder is preallocated for each message so dispatch does not allocate.\n" +
+            "/// A dispatcher is not thread safe.\n" +
+            "/// </summary>\n" +
+            "public sealed class MessageDispatcher\n" +
+            "{\n" +
+            "    public const int SCHEMA_ID = %4$d;\n\n" +
+            "    private readonly %6$s _headerDecoder = new %6$s();\n" +
+            "%7$s" +
+            "    private readonly IMessageHandler _handler;\n\n" +
+            "    /// <summary>\n" +
+            "    /// Create a dispatcher which may only be used with <see cref=\"Dispatch{THandler}\"/>.\n" +
+            "    /// </summary>\n" +
+            "    public MessageDispatcher()\n" +
+            "    {\n" +
+            "    }\n\n" +
+            "    public MessageDispatcher(IMessageHandler handler)\n" +
+            "    {\n" +
+            "        if (handler == null)\n" +
+            "        {\n" +
+            "            throw new ArgumentNullException(\"handler\");\n" +
+            "        }\n\n" +
+            "        _handler = handler;\n" +
+            "    }\n\n" +
+            "    /// <summary>\n" +
+            "    /// Dispatch the message whose header starts at <paramref name=\"offset\"/> to the handler of the dispatcher.\n" +
+            "    /// </summary>\n" +
+            "    /// <returns>false if the message is from another schema or has an unknown template id.</returns>\n" +
+            "    public bool Dispatch(%3$s buffer, int offset)\n" +
+            "    {\n" +
+            "        if (_handler == null)\n" +
+            "        {\n" +
+            "            throw new InvalidOperationException(\"dispatcher was created without a handler\");\n" +
+            "        }\n\n" +
+            "%8$s" +
+            "    }\n\n" +
+            "    /// <summary>\n" +
+            "    /// Dispatch the message whose header starts at <paramref name=\"offset\"/> to a struct handler. The method\n" +
+            "    /// is compiled separately for each handler type so the calls to the handler are direct and may be inlined.\n" +
+            "    /// </summary>\n" +
+            "    /// <returns>false if the message is from another schema or has an unknown template id.</returns>\n" +
+            "    public bool Dispatch<THandler>(ref THandler handler, %3$s buffer, int offset)\n" +
+            "        where THandler : struct, IMessageHandler\n" +
+            "    {\n" +
+            "%9$s" +
+            "    }\n" +
+            "}\n" +
+            "}\n");
+
+    private static final CSharpTemplate MESSAGE_DISPATCHER_BODY = CSharpTemplate.compile(
+            "        _headerDecoder.Wrap(buffer, offset);\n" +
+            "        if ((int)_headerDecoder.%2$s() != SCHEMA_ID)\n" +
+            "        {\n" +
+            "            return false;\n" +
+            "        }\n\n" +
+            "        int blockLength = (int)_headerDecoder.%3$s();\n" +
+            "        int version = (int)_headerDecoder.%4$s();\n" +
+            "        int bodyOffset = offset + %1$s.ENCODED_LENGTH;\n\n" +
+            "        // The cases are ordered by template id so a dense set of ids compiles to a jump table.\n" +
+            "        switch ((int)_headerDecoder.%5$s())\n" +
+            "        {\n" +
+            "%6$s" +
+            "            default:\n" +
+            "                return false;\n" +
+            "        }\n");
+
+    private static final CSharpTemplate MESSAGE_DISPATCHER_HANDLER_METHOD = CSharpTemplate.compile(
+            "    void On%s(%s decoder);\n");
+
+    private static final CSharpTemplate MESSAGE_DISPATCHER_DECODER_FIELD = CSharpTemplate.compile(
+            "    private readonly %1$s %2$s = new %1$s();\n");
+
+    private static final CSharpTemplate MESSAGE_DISPATCHER_CASE = CSharpTemplate.compile(
+            "            case %1$s.TEMPLATE_ID:\n" +
+            "                %2$s.Wrap(buffer, bodyOffset, blockLength, version);\n" +
+            "                %4$s.On%3$s(%2$s);\n" +
+            "                return true;\n\n");
+
+    private void generateMessageDispatcher() throws IOException {
+        final List<Token> messageTokens = new ArrayList<>();
+        for (final List<Token> tokens : ir.messages()) {
+            messageTokens.add(tokens.get(0));
+        }
+
+        if (messageTokens.isEmpty()) {
+            return;
+        }
+
+        messageTokens.sort(Comparator.comparingInt(Token::id));
+
+        final StringBuilder handlerMethods = new StringBuilder();
+        final StringBuilder decoderFields = new StringBuilder();
+        final StringBuilder cases = new StringBuilder();
+        final StringBuilder structCases = new StringBuilder();
+        for (final Token msgToken : messageTokens) {
+            final String messageName = formatClassName(msgToken.name());
+            final String decoderName = formatClassName(decoderName(msgToken.name()));
+            final String fieldName = "_" + toLowerFirstChar(decoderName);
+
+            MESSAGE_DISPATCHER_HANDLER_METHOD.appendTo(handlerMethods, BASE_INDENT, messageName, decoderName);
+            MESSAGE_DISPATCHER_DECODER_FIELD.appendTo(decoderFields, BASE_INDENT, decoderName, fieldName);
+            MESSAGE_DISPATCHER_CASE.appendTo(cases, BASE_INDENT, decoderName, fieldName, messageName, "_handler");
+            MESSAGE_DISPATCHER_CASE.appendTo(structCases, BASE_INDENT, decoderName, fieldName, messageName, "handler");
+        }
+
+        final String headerDecoderName =
+                formatClassName(decoderName(ir.headerStructure().tokens().get(0).name()));
+
+        try (Writer out = outputManager.createOutput(MESSAGE_DISPATCHER)) {
+            out.append(MESSAGE_DISPATCHER_CODE.render(
+                    BASE_INDENT,
+                    namespace(),
+                    fqReadOnlyBuffer,
+                    readOnlyBuffer,
+                    ir.id(),
+                    handlerMethods,
+                    headerDecoderName,
+                    decoderFields,
+                    generateMessageDispatcherBody(headerDecoderName, cases),
+                    generateMessageDispatcherBody(headerDecoderName, structCases)));
+        }
+    }
+
+    private static CharSequence generateMessageDispatcherBody(final String headerDecoderName, final CharSequence cases) {
+        return MESSAGE_DISPATCHER_BODY.render(
+                BASE_INDENT,
+                headerDecoderName,
+                formatPropertyName(HeaderStructure.SCHEMA_ID),
+                formatPropertyName(HeaderStructure.BLOCK_LENGTH),
+                formatPropertyName(HeaderStructure.SCHEMA_VERSION),
+                formatPropertyName(HeaderStructure.TEMPLATE_ID),
+                cases);
+    }
+
     private CharSequence generatePrimitiveDecoder(
             final boolean inComposite, final String propertyName, final Token token, final String indent) {
         final StringBuilder sb = new StringBuilder();
@@ -1697,6 +3188,27 @@ public class CSharpGenerator implements CodeGenerator {
                 () -> generatePrimitiveArrayPropertyEncode(containingClassName, propertyName, token, indent));
     }
 
+    private static final CSharpTemplate NULL_VALUE_METHOD = CSharpTemplate.compile(
+            "\n" +
+            "%i    public static %s %sNullValue()\n" +
+            "%i    {\n" +
+            "%i        return %s;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate MIN_VALUE_METHOD = CSharpTemplate.compile(
+            "\n" +
+            "%i    public static %s %sMinValue()\n" +
+            "%i    {\n" +
+            "%i        return %s;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate MAX_VALUE_METHOD = CSharpTemplate.compile(
+            "\n" +
+            "%i    public static %s %sMaxValue()\n" +
+            "%i    {\n" +
+            "%i        return %s;\n" +
+            "%i    }\n");
+
     private CharSequence generatePrimitiveFieldMetaData(
             final String propertyName, final Token token, final String indent) {
         final StringBuilder sb = new StringBuilder();
@@ -1704,101 +3216,234 @@ public class CSharpGenerator implements CodeGenerator {
         final PrimitiveType primitiveType = token.encoding().primitiveType();
         final String javaTypeName = csharpTypeName(primitiveType);
 
-        sb.append(String.format(
-                "\n" +
-                        indent + "    public static %s %sNullValue()\n" +
-                        indent + "    {\n" +
-                        indent + "        return %s;\n" +
-                        indent + "    }\n",
+        NULL_VALUE_METHOD.appendTo(
+                sb,
+                indent,
                 javaTypeName,
                 propertyName,
-                generateLiteral(primitiveType, token.encoding().applicableNullValue().toString())));
+                generateLiteral(primitiveType, token.encoding().applicableNullValue().toString()));
 
-        sb.append(String.format(
-                "\n" +
-                        indent + "    public static %s %sMinValue()\n" +
-                        indent + "    {\n" +
-                        indent + "        return %s;\n" +
-                        indent + "    }\n",
+        MIN_VALUE_METHOD.appendTo(
+                sb,
+                indent,
                 javaTypeName,
                 propertyName,
-                generateLiteral(primitiveType, token.encoding().applicableMinValue().toString())));
+                generateLiteral(primitiveType, token.encoding().applicableMinValue().toString()));
 
-        sb.append(String.format(
-                "\n" +
-                        indent + "    public static %s %sMaxValue()\n" +
-                        indent + "    {\n" +
-                        indent + "        return %s;\n" +
-                        indent + "    }\n",
+        MAX_VALUE_METHOD.appendTo(
+                sb,
+                indent,
                 javaTypeName,
                 propertyName,
-                generateLiteral(primitiveType, token.encoding().applicableMaxValue().toString())));
+                generateLiteral(primitiveType, token.encoding().applicableMaxValue().toString()));
 
         return sb;
     }
 
+    private static final CSharpTemplate PRIMITIVE_PROPERTY_DECODE = CSharpTemplate.compile(
+            "\n" +
+            "%i    public %s %s()\n" +
+            "%i    {\n" +
+            "%s" +
+            "%i        return %s;\n" +
+            "%i    }\n\n");
+
     private CharSequence generatePrimitivePropertyDecode(
             final boolean inComposite, final String propertyName, final Token token, final String indent) {
         final Encoding encoding = token.encoding();
         final String javaTypeName = csharpTypeName(encoding.primitiveType());
 
-        final int offset = token.offset();
-        final String byteOrderStr = byteOrderString(encoding);
+        final int offset = token.offset();
+        final ByteOrder byteOrder = encoding.byteOrder();
+
+        final StringBuilder sb = PRIMITIVE_PROPERTY_DECODE.render(
+                indent,
+                javaTypeName,
+                propertyName,
+                generateFieldNotPresentCondition(inComposite, token.version(), encoding, indent),
+                generateGet(encoding.primitiveType(), "_offset + " + offset, byteOrder));
+
+        if (shouldGenerateTrustedAccessors) {
+            PRIMITIVE_PROPERTY_DECODE_UNCHECKED.appendTo(
+                    sb,
+                    indent,
+                    javaTypeName,
+                    propertyName,
+                    generateFieldNotPresentCondition(inComposite, token.version(), encoding, indent),
+                    generatePointerGet(encoding.primitiveType(), "_offset + " + offset, byteOrder));
+        }
+
+        return sb;
+    }
+
+    private static final CSharpTemplate PRIMITIVE_PROPERTY_DECODE_UNCHECKED = CSharpTemplate.compile(
+            "%i    public unsafe %s %sUnchecked()\n" +
+            "%i    {\n" +
+            "%s" +
+            "%i        return %s;\n" +
+            "%i    }\n\n");
+
+    /**
+     * Generate a read straight from the memory of the buffer without a bounds check, for use once a message has
+     * been validated. As with {@link #generateGet(PrimitiveType, String, ByteOrder)} the native order is little endian.
+     */
+    private static String generatePointerGet(final PrimitiveType type, final String index, final ByteOrder byteOrder) {
+        final String address = "(byte*)_buffer.BufferPointer + " + index;
+        switch (type) {
+            case INT8:
+                return "*(sbyte*)(" + address + ")";
+
+            case CHAR:
+            case UINT8:
+                return "*(" + address + ")";
+
+            case FLOAT:
+                if (ByteOrder.BIG_ENDIAN == byteOrder) {
+                    return "BitConverter.Int32BitsToSingle(" +
+                            toSchemaByteOrder("*(int*)(" + address + ")") + ")";
+                }
+                return toSchemaByteOrder("*(float*)(" + address + ")");
 
-        return String.format(
-                "\n" +
-                        indent + "    public %s %s()\n" +
-                        indent + "    {\n" +
-                        "%s" +
-                        indent + "        return %s;\n" +
-                        indent + "    }\n\n",
-                javaTypeName,
-                propertyName,
-                generateFieldNotPresentCondition(inComposite, token.version(), encoding, indent),
-                generateGet(encoding.primitiveType(), "_offset + " + offset, byteOrderStr));
+            case DOUBLE:
+                if (ByteOrder.BIG_ENDIAN == byteOrder) {
+                    return "BitConverter.Int64BitsToDouble(" +
+                            toSchemaByteOrder("*(long*)(" + address + ")") + ")";
+                }
+                return toSchemaByteOrder("*(double*)(" + address + ")");
+
+            default:
+                return toSchemaByteOrder("*(" + csharpTypeName(type) + "*)(" + address + ")");
+        }
     }
 
+    private static final CSharpTemplate PRIMITIVE_PROPERTY_ENCODE = CSharpTemplate.compile(
+            "\n" +
+            "%i    public %s %s(%s value)\n" +
+            "%i    {\n" +
+            "%i        %s;\n" +
+            "%i        return this;\n" +
+            "%i    }\n\n");
+
     private CharSequence generatePrimitivePropertyEncode(
             final String containingClassName, final String propertyName, final Token token, final String indent) {
         final Encoding encoding = token.encoding();
         final String javaTypeName = csharpTypeName(encoding.primitiveType());
         final int offset = token.offset();
-        final String byteOrderStr = byteOrderString(encoding);
+        final ByteOrder byteOrder = encoding.byteOrder();
 
-        return String.format(
-                "\n" +
-                        indent + "    public %s %s(%s value)\n" +
-                        indent + "    {\n" +
-                        indent + "        %s;\n" +
-                        indent + "        return this;\n" +
-                        indent + "    }\n\n",
+        return PRIMITIVE_PROPERTY_ENCODE.render(
+                indent,
                 formatClassName(containingClassName),
                 propertyName,
                 javaTypeName,
-                generatePut(encoding.primitiveType(), "_offset + " + offset, "value", byteOrderStr));
+                generatePut(encoding.primitiveType(), "_offset + " + offset, "value", byteOrder));
     }
 
+    private static final CSharpTemplate FIELD_NOT_PRESENT_CONDITION = CSharpTemplate.compile(
+            "%i        if (_parentMessage._actingVersion < %d)\n" +
+            "%i        {\n" +
+            "%i            return %s;\n" +
+            "%i        }\n\n");
+
     private CharSequence generateFieldNotPresentCondition(
             final boolean inComposite, final int sinceVersion, final Encoding encoding, final String indent) {
-        if (inComposite || 0 == sinceVersion) {
+        if (inComposite || shouldOmitVersionChecks || 0 == sinceVersion) {
             return "";
         }
 
-        return String.format(
-                indent + "        if (_parentMessage._actingVersion < %d)\n" +
-                        indent + "        {\n" +
-                        indent + "            return %s;\n" +
-                        indent + "        }\n\n",
+        return FIELD_NOT_PRESENT_CONDITION.render(
+                indent,
                 sinceVersion,
                 generateLiteral(encoding.primitiveType(), encoding.applicableNullValue().toString()));
     }
 
+    private static final CSharpTemplate PRIMITIVE_ARRAY_ELEMENT_DECODE = CSharpTemplate.compile(
+            "%i    public %s %s(int index)\n" +
+            "%i    {\n" +
+            "%i        if (index < 0 || index >= %d)\n" +
+            "%i        {\n" +
+            "%i            throw new IndexOutOfRangeException(\"index out of range: index=\" + index);\n" +
+            "%i        }\n\n" +
+            "%s" +
+            "%i        int pos = this._offset + %d + (index * %d);\n\n" +
+            "%i        return %s;\n" +
+            "%i    }\n\n");
+
+    private static final CSharpTemplate PRIMITIVE_ARRAY_ELEMENT_DECODE_UNCHECKED = CSharpTemplate.compile(
+            "%i    public unsafe %s %sUnchecked(int index)\n" +
+            "%i    {\n" +
+            "%s" +
+            "%i        return %s;\n" +
+            "%i    }\n\n");
+
+    private static final CSharpTemplate CHAR_ARRAY_BYTES_DECODE = CSharpTemplate.compile(
+            "\n" +
+            "%i    public int Get%s(byte[] dst, int dstOffset)\n" +
+            "%i    {\n" +
+            "%i        int length = %d;\n" +
+            "%i        if (dstOffset < 0 || dstOffset > (dst.Length - length))\n" +
+            "%i        {\n" +
+            "%i            throw new IndexOutOfRangeException(" +
+            "\"Copy will go out of range: offset=\" + dstOffset);\n" +
+            "%i        }\n\n" +
+            "%s" +
+            "%i        _buffer.GetBytes(this._offset + %d, dst, dstOffset, length);\n\n" +
+            "%i        return length;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate CHAR_ARRAY_STRING_DECODE = CSharpTemplate.compile(
+            "\n" +
+            "%i    public string %s()\n" +
+            "%i    {\n" +
+            "%s" +
+            "%i        byte[] dst = new byte[%d];\n" +
+            "%i        _buffer.GetBytes(this._offset + %d, dst, 0, %d);\n\n" +
+            "%i        int end = 0;\n" +
+            "%i        for (; end < %d && dst[end] != 0; ++end);\n\n" +
+            "%i        return %s.GetString(dst, 0, end);\n" +
+            "%i    }\n\n");
+
+    private static final CSharpTemplate CHAR_ARRAY_STRING_DECODE_UNSAFE = CSharpTemplate.compile(
+            "\n" +
+            "%i    public unsafe string %1$s()\n" +
+            "%i    {\n" +
+            "%2$s" +
+            "%i        _buffer.BoundsCheck(this._offset + %4$d, %3$d);\n" +
+            "%i        byte* src = (byte*)_buffer.BufferPointer + this._offset + %4$d;\n" +
+            "%i        int end = new ReadOnlySpan<byte>(src, %3$d).IndexOf((byte)0);\n\n" +
+            "%i        return %5$s.GetString(src, end < 0 ? %3$d : end);\n" +
+            "%i    }\n\n");
+
+    private static final CSharpTemplate CHAR_ARRAY_STRING_DECODE_INTERNED = CSharpTemplate.compile(
+            "\n" +
+            "%i    public string %1$s()\n" +
+            "%i    {\n" +
+            "%2$s" +
+            "%i        return StringInternPool.Current.InternNullTerminated(_buffer, this._offset + %4$d, %3$d, %5$s);\n" +
+            "%i    }\n\n");
+
+    private static final CSharpTemplate PRIMITIVE_ARRAY_SPAN_DECODE = CSharpTemplate.compile(
+            "\n" +
+            "%i    public unsafe int Get%1$s(Span<%2$s> dst)\n" +
+            "%i    {\n" +
+            "%i        int length = %3$d;\n" +
+            "%i        if (dst.Length < length)\n" +
+            "%i        {\n" +
+            "%i            throw new ArgumentException(\"dst too small for copy: length=\" + dst.Length);\n" +
+            "%i        }\n\n" +
+            "%4$s" +
+            "%i        _buffer.BoundsCheck(this._offset + %5$d, %6$d);\n" +
+            "%i        ReadOnlySpan<byte> src = new ReadOnlySpan<byte>((byte*)_buffer.BufferPointer + this._offset + %5$d, %6$d);\n" +
+            "%i        %7$s;\n\n" +
+            "%i        return length;\n" +
+            "%i    }\n");
+
     private CharSequence generatePrimitiveArrayPropertyDecode(
             final boolean inComposite, final String propertyName, final Token token, final String indent) {
         final Encoding encoding = token.encoding();
         final String javaTypeName = csharpTypeName(encoding.primitiveType());
         final int offset = token.offset();
-        final String byteOrderStr = byteOrderString(encoding);
+        final ByteOrder byteOrder = encoding.byteOrder();
         final int fieldLength = token.arrayLength();
         final int typeSize = sizeOfPrimitive(encoding);
 
@@ -1806,70 +3451,127 @@ public class CSharpGenerator implements CodeGenerator {
 
         generateArrayLengthMethod(propertyName, indent, fieldLength, sb);
 
-        sb.append(String.format(
-                indent + "    public %s %s(int index)\n" +
-                        indent + "    {\n" +
-                        indent + "        if (index < 0 || index >= %d)\n" +
-                        indent + "        {\n" +
-                        indent + "            throw new IndexOutOfRangeException(\"index out of range: index=\" + index);\n" +
-                        indent + "        }\n\n" +
-                        "%s" +
-                        indent + "        int pos = this._offset + %d + (index * %d);\n\n" +
-                        indent + "        return %s;\n" +
-                        indent + "    }\n\n",
+        PRIMITIVE_ARRAY_ELEMENT_DECODE.appendTo(
+                sb,
+                indent,
                 javaTypeName,
                 propertyName,
                 fieldLength,
                 generateFieldNotPresentCondition(inComposite, token.version(), encoding, indent),
                 offset,
                 typeSize,
-                generateGet(encoding.primitiveType(), "pos", byteOrderStr)));
+                generateGet(encoding.primitiveType(), "pos", byteOrder));
+
+        if (shouldGenerateTrustedAccessors) {
+            PRIMITIVE_ARRAY_ELEMENT_DECODE_UNCHECKED.appendTo(
+                    sb,
+                    indent,
+                    javaTypeName,
+                    propertyName,
+                    generateFieldNotPresentCondition(inComposite, token.version(), encoding, indent),
+                    generatePointerGet(encoding.primitiveType(), "_offset + " + offset + " + (index * " + typeSize + ")",
+                            byteOrder));
+        }
+
+        if (shouldGenerateUnsafeCode && encoding.primitiveType() != PrimitiveType.CHAR) {
+            PRIMITIVE_ARRAY_SPAN_DECODE.appendTo(
+                    sb,
+                    indent,
+                    toUpperFirstChar(propertyName),
+                    javaTypeName,
+                    fieldLength,
+                    generateArrayFieldNotPresentCondition(token.version(), indent),
+                    offset,
+                    fieldLength * typeSize,
+                    generateSpanCopy(encoding.primitiveType(), "src", "byte", "dst", javaTypeName));
+        }
 
         if (encoding.primitiveType() == PrimitiveType.CHAR) {
             generateCharacterEncodingMethod(sb, propertyName, encoding.characterEncoding(), indent);
 
-            sb.append(String.format(
-                    "\n" +
-                            indent + "    public int Get%s(byte[] dst, int dstOffset)\n" +
-                            indent + "    {\n" +
-                            indent + "        int length = %d;\n" +
-                            indent + "        if (dstOffset < 0 || dstOffset > (dst.Length - length))\n" +
-                            indent + "        {\n" +
-                            indent + "            throw new IndexOutOfRangeException(" +
-                            "\"Copy will go out of range: offset=\" + dstOffset);\n" +
-                            indent + "        }\n\n" +
-                            "%s" +
-                            indent + "        _buffer.GetBytes(this._offset + %d, dst, dstOffset, length);\n\n" +
-                            indent + "        return length;\n" +
-                            indent + "    }\n",
+            CHAR_ARRAY_BYTES_DECODE.appendTo(
+                    sb,
+                    indent,
                     toUpperFirstChar(propertyName),
                     fieldLength,
                     generateArrayFieldNotPresentCondition(token.version(), indent),
-                    offset));
-
-            sb.append(String.format(
-                    "\n" +
-                            indent + "    public string %s()\n" +
-                            indent + "    {\n" +
-                            "%s" +
-                            indent + "        byte[] dst = new byte[%d];\n" +
-                            indent + "        _buffer.GetBytes(this._offset + %d, dst, 0, %d);\n\n" +
-                            indent + "        int end = 0;\n" +
-                            indent + "        for (; end < %d && dst[end] != 0; ++end);\n\n" +
-                            indent + "        return %s.GetString(dst, 0, end);\n" +
-                            indent + "    }\n\n",
-                    formatPropertyName(propertyName),
-                    generateStringNotPresentCondition(token.version(), indent),
-                    fieldLength, offset,
-                    fieldLength, fieldLength,
-                    charset(encoding.characterEncoding())));
+                    offset);
+
+            if (shouldInternStrings || shouldGenerateUnsafeCode) {
+                final CSharpTemplate template = shouldInternStrings ?
+                        CHAR_ARRAY_STRING_DECODE_INTERNED : CHAR_ARRAY_STRING_DECODE_UNSAFE;
+                template.appendTo(
+                        sb,
+                        indent,
+                        formatPropertyName(propertyName),
+                        generateStringNotPresentCondition(token.version(), indent),
+                        fieldLength,
+                        offset,
+                        charset(encoding.characterEncoding()));
+            } else {
+                CHAR_ARRAY_STRING_DECODE.appendTo(
+                        sb,
+                        indent,
+                        formatPropertyName(propertyName),
+                        generateStringNotPresentCondition(token.version(), indent),
+                        fieldLength,
+                        offset,
+                        fieldLength,
+                        fieldLength,
+                        charset(encoding.characterEncoding()));
+            }
         }
 
         return sb;
     }
 
-    private String byteOrderString(final Encoding encoding) {
-        return sizeOfPrimitive(encoding) == 1 ? "" : ", " + getCSharpByteOrder(encoding.byteOrder());
+    private static final CSharpTemplate PRIMITIVE_ARRAY_ELEMENT_ENCODE = CSharpTemplate.compile(
+            "%i    public void %s(int index, %s value)\n" +
+            "%i    {\n" +
+            "%i        if (index < 0 || index >= %d)\n" +
+            "%i        {\n" +
+            "%i            throw new IndexOutOfRangeException(\"index out of range: index=\" + index);\n" +
+            "%i        }\n\n" +
+            "%i        int pos = this._offset + %d + (index * %d);\n" +
+            "%i        %s;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate PRIMITIVE_ARRAY_SPAN_ENCODE = CSharpTemplate.compile(
+            "\n" +
+            "%i    public unsafe %1$s Put%2$s(ReadOnlySpan<%3$s> src)\n" +
+            "%i    {\n" +
+            "%i        int length = %4$d;\n" +
+            "%i        if (src.Length > length)\n" +
+            "%i        {\n" +
+            "%i            throw new ArgumentException(\"src too large for copy: length=\" + src.Length);\n" +
+            "%i        }\n\n" +
+            "%i        _buffer.BoundsCheck(this._offset + %5$d, %6$d);\n" +
+            "%i        Span<byte> dst = new Span<byte>((byte*)_buffer.BufferPointer + this._offset + %5$d, %6$d);\n" +
+            "%i        %7$s;\n" +
+            "%i        dst.Slice(src.Length * %8$d).Clear();\n\n" +
+            "%i        return this;\n" +
+            "%i    }\n");
+
+    /**
+     * Generate a bulk copy between two spans whose elements are reinterpreted with {@code MemoryMarshal.Cast}. Multi
+     * byte elements are copied through SchemaByteOrder over their integer view, which is a single memmove when the
+     * native byte order is that of the schema and a byte swap of each element when it is not.
+     */
+    private static String generateSpanCopy(
+            final PrimitiveType type, final String src, final String srcType, final String dst, final String dstType) {
+        if (type.size() == 1) {
+            return spanCast(src, srcType, dstType) + ".CopyTo(" + dst + ")";
+        }
+
+        final String integerType = PrimitiveType.FLOAT == type ? "int" :
+                PrimitiveType.DOUBLE == type ? "long" : csharpTypeName(type);
+
+        return SCHEMA_BYTE_ORDER + ".Copy(" +
+                spanCast(src, srcType, integerType) + ", " + spanCast(dst, dstType, integerType) + ")";
+    }
+
+    private static String spanCast(final String span, final String fromType, final String toType) {
+        return fromType.equals(toType) ? span : "MemoryMarshal.Cast<" + fromType + ", " + toType + ">(" + span + ")";
     }
 
     private CharSequence generatePrimitiveArrayPropertyEncode(
@@ -1877,7 +3579,7 @@ public class CSharpGenerator implements CodeGenerator {
         final Encoding encoding = token.encoding();
         final String javaTypeName = csharpTypeName(encoding.primitiveType());
         final int offset = token.offset();
-        final String byteOrderStr = byteOrderString(encoding);
+        final ByteOrder byteOrder = encoding.byteOrder();
         final int fieldLength = token.arrayLength();
         final int typeSize = sizeOfPrimitive(encoding);
 
@@ -1885,22 +3587,29 @@ public class CSharpGenerator implements CodeGenerator {
 
         generateArrayLengthMethod(propertyName, indent, fieldLength, sb);
 
-        sb.append(String.format(
-                indent + "    public void %s(int index, %s value)\n" +
-                        indent + "    {\n" +
-                        indent + "        if (index < 0 || index >= %d)\n" +
-                        indent + "        {\n" +
-                        indent + "            throw new IndexOutOfRangeException(\"index out of range: index=\" + index);\n" +
-                        indent + "        }\n\n" +
-                        indent + "        int pos = this._offset + %d + (index * %d);\n" +
-                        indent + "        %s;\n" +
-                        indent + "    }\n",
+        PRIMITIVE_ARRAY_ELEMENT_ENCODE.appendTo(
+                sb,
+                indent,
                 propertyName,
                 javaTypeName,
                 fieldLength,
                 offset,
                 typeSize,
-                generatePut(encoding.primitiveType(), "pos", "value", byteOrderStr)));
+                generatePut(encoding.primitiveType(), "pos", "value", byteOrder));
+
+        if (shouldGenerateUnsafeCode && encoding.primitiveType() != PrimitiveType.CHAR) {
+            PRIMITIVE_ARRAY_SPAN_ENCODE.appendTo(
+                    sb,
+                    indent,
+                    formatClassName(containingClassName),
+                    toUpperFirstChar(propertyName),
+                    javaTypeName,
+                    fieldLength,
+                    offset,
+                    fieldLength * typeSize,
+                    generateSpanCopy(encoding.primitiveType(), "src", javaTypeName, "dst", "byte"),
+                    typeSize);
+        }
 
         if (encoding.primitiveType() == PrimitiveType.CHAR) {
             generateCharArrayEncodeMethods(
@@ -1910,6 +3619,128 @@ public class CSharpGenerator implements CodeGenerator {
         return sb;
     }
 
+    private static final CSharpTemplate CHAR_ARRAY_BYTES_ENCODE = CSharpTemplate.compile(
+            "\n" +
+            "%i    public %s Put%s(byte[] src, int srcOffset)\n" +
+            "%i    {\n" +
+            "%i        int length = %d;\n" +
+            "%i        if (srcOffset < 0 || srcOffset > (src.Length - length))\n" +
+            "%i        {\n" +
+            "%i            throw new IndexOutOfRangeException(" +
+            "\"Copy will go out of range: offset=\" + srcOffset);\n" +
+            "%i        }\n\n" +
+            "%i        _buffer.PutBytes(this._offset + %d, src, srcOffset, length);\n\n" +
+            "%i        return this;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate CHAR_ARRAY_ASCII_STRING_ENCODE = CSharpTemplate.compile(
+            "\n" +
+            "%i    public %1$s %2$s(string src)\n" +
+            "%i    {\n" +
+            "%i        int length = %3$d;\n" +
+            "%i        int srcLength = src.Length;\n" +
+            "%i        if (srcLength > length)\n" +
+            "%i        {\n" +
+            "%i            throw new IndexOutOfRangeException(" +
+            "\"String too large for copy: byte length=\" + srcLength);\n" +
+            "%i        }\n\n" +
+            "%i        _buffer.PutStringWithoutLengthAscii(this._offset + %4$d, src);\n\n" +
+            "%i        for (int start = srcLength; start < length; ++start)\n" +
+            "%i        {\n" +
+            "%i            _buffer.PutByte(this._offset + %4$d + start, (byte)0);\n" +
+            "%i        }\n\n" +
+            "%i        return this;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate CHAR_ARRAY_BYTES_SPAN_ENCODE = CSharpTemplate.compile(
+            "\n" +
+            "%i    public unsafe %1$s Put%2$s(ReadOnlySpan<byte> src)\n" +
+            "%i    {\n" +
+            "%i        int length = %3$d;\n" +
+            "%i        int srcLength = src.Length;\n" +
+            "%i        if (srcLength > length)\n" +
+            "%i        {\n" +
+            "%i            throw new IndexOutOfRangeException(" +
+            "\"Bytes too large for copy: byte length=\" + srcLength);\n" +
+            "%i        }\n\n" +
+            "%i        _buffer.BoundsCheck(this._offset + %4$d, length);\n" +
+            "%i        Span<byte> dst = new Span<byte>((byte*)_buffer.BufferPointer + this._offset + %4$d, length);\n" +
+            "%i        src.CopyTo(dst);\n" +
+            "%i        dst.Slice(srcLength).Clear();\n\n" +
+            "%i        return this;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate CHAR_ARRAY_ASCII_STRING_ENCODE_UNSAFE = CSharpTemplate.compile(
+            "\n" +
+            "%i    public %1$s %2$s(string src)\n" +
+            "%i    {\n" +
+            "%i        return %2$s(src.AsSpan());\n" +
+            "%i    }\n\n" +
+            "%i    public unsafe %1$s %2$s(ReadOnlySpan<char> src)\n" +
+            "%i    {\n" +
+            "%i        int length = %3$d;\n" +
+            "%i        int srcLength = src.Length;\n" +
+            "%i        if (srcLength > length)\n" +
+            "%i        {\n" +
+            "%i            throw new IndexOutOfRangeException(" +
+            "\"String too large for copy: byte length=\" + srcLength);\n" +
+            "%i        }\n\n" +
+            "%i        _buffer.BoundsCheck(this._offset + %4$d, length);\n" +
+            "%i        byte* dst = (byte*)_buffer.BufferPointer + this._offset + %4$d;\n" +
+            "%i        if (srcLength > 0)\n" +
+            "%i        {\n" +
+            "%i            fixed (char* chars = src)\n" +
+            "%i            {\n" +
+            "%i                Encoding.ASCII.GetBytes(chars, srcLength, dst, length);\n" +
+            "%i            }\n" +
+            "%i        }\n\n" +
+            "%i        new Span<byte>(dst + srcLength, length - srcLength).Clear();\n\n" +
+            "%i        return this;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate CHAR_ARRAY_STRING_ENCODE = CSharpTemplate.compile(
+            "\n" +
+            "%i    public %s %s(string src)\n" +
+            "%i    {\n" +
+            "%i        int length = %d;\n" +
+            "%i        byte[] bytes = %s.GetBytes(src);\n" +
+            "%i        if (bytes.Length > length)\n" +
+            "%i        {\n" +
+            "%i            throw new IndexOutOfRangeException(" +
+            "\"String too large for copy: byte length=\" + bytes.Length);\n" +
+            "%i        }\n\n" +
+            "%i        _buffer.PutBytes(this._offset + %d, bytes, 0, bytes.Length);\n\n" +
+            "%i        for (int start = bytes.Length; start < length; ++start)\n" +
+            "%i        {\n" +
+            "%i            _buffer.PutByte(this._offset + %d + start, (byte)0);\n" +
+            "%i        }\n\n" +
+            "%i        return this;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate CHAR_ARRAY_STRING_ENCODE_UNSAFE = CSharpTemplate.compile(
+            "\n" +
+            "%i    public unsafe %1$s %2$s(string src)\n" +
+            "%i    {\n" +
+            "%i        int length = %3$d;\n" +
+            "%i        int byteCount = %4$s.GetByteCount(src);\n" +
+            "%i        if (byteCount > length)\n" +
+            "%i        {\n" +
+            "%i            throw new IndexOutOfRangeException(" +
+            "\"String too large for copy: byte length=\" + byteCount);\n" +
+            "%i        }\n\n" +
+            "%i        _buffer.BoundsCheck(this._offset + %5$d, length);\n" +
+            "%i        byte* dst = (byte*)_buffer.BufferPointer + this._offset + %5$d;\n" +
+            "%i        fixed (char* chars = src)\n" +
+            "%i        {\n" +
+            "%i            %4$s.GetBytes(chars, src.Length, dst, length);\n" +
+            "%i        }\n\n" +
+            "%i        for (int start = byteCount; start < length; ++start)\n" +
+            "%i        {\n" +
+            "%i            dst[start] = 0;\n" +
+            "%i        }\n\n" +
+            "%i        return this;\n" +
+            "%i    }\n");
+
     private void generateCharArrayEncodeMethods(
             final String containingClassName,
             final String propertyName,
@@ -1920,85 +3751,101 @@ public class CSharpGenerator implements CodeGenerator {
             final StringBuilder sb) {
         generateCharacterEncodingMethod(sb, propertyName, encoding.characterEncoding(), indent);
 
-        sb.append(String.format(
-                "\n" +
-                        indent + "    public %s Put%s(byte[] src, int srcOffset)\n" +
-                        indent + "    {\n" +
-                        indent + "        int length = %d;\n" +
-                        indent + "        if (srcOffset < 0 || srcOffset > (src.Length - length))\n" +
-                        indent + "        {\n" +
-                        indent + "            throw new IndexOutOfRangeException(" +
-                        "\"Copy will go out of range: offset=\" + srcOffset);\n" +
-                        indent + "        }\n\n" +
-                        indent + "        _buffer.PutBytes(this._offset + %d, src, srcOffset, length);\n\n" +
-                        indent + "        return this;\n" +
-                        indent + "    }\n",
+        CHAR_ARRAY_BYTES_ENCODE.appendTo(
+                sb,
+                indent,
                 formatClassName(containingClassName),
                 toUpperFirstChar(propertyName),
                 fieldLength,
-                offset));
+                offset);
+
+        if (shouldGenerateUnsafeCode) {
+            CHAR_ARRAY_BYTES_SPAN_ENCODE.appendTo(
+                    sb,
+                    indent,
+                    formatClassName(containingClassName),
+                    toUpperFirstChar(propertyName),
+                    fieldLength,
+                    offset);
+        }
 
         if (encoding.characterEncoding().contains("ASCII")) {
-            sb.append(String.format(
-                    "\n" +
-                            indent + "    public %1$s %2$s(string src)\n" +
-                            indent + "    {\n" +
-                            indent + "        int length = %3$d;\n" +
-                            indent + "        int srcLength = src.Length;\n" +
-                            indent + "        if (srcLength > length)\n" +
-                            indent + "        {\n" +
-                            indent + "            throw new IndexOutOfRangeException(" +
-                            "\"String too large for copy: byte length=\" + srcLength);\n" +
-                            indent + "        }\n\n" +
-                            indent + "        _buffer.PutStringWithoutLengthAscii(this._offset + %4$d, src);\n\n" +
-                            indent + "        for (int start = srcLength; start < length; ++start)\n" +
-                            indent + "        {\n" +
-                            indent + "            _buffer.PutByte(this._offset + %4$d + start, (byte)0);\n" +
-                            indent + "        }\n\n" +
-                            indent + "        return this;\n" +
-                            indent + "    }\n",
+            final CSharpTemplate template = shouldGenerateUnsafeCode ?
+                    CHAR_ARRAY_ASCII_STRING_ENCODE_UNSAFE : CHAR_ARRAY_ASCII_STRING_ENCODE;
+            template.appendTo(
+                    sb,
+                    indent,
                     formatClassName(containingClassName),
                     propertyName,
                     fieldLength,
-                    offset));
+                    offset);
+        } else if (shouldGenerateUnsafeCode) {
+            CHAR_ARRAY_STRING_ENCODE_UNSAFE.appendTo(
+                    sb,
+                    indent,
+                    formatClassName(containingClassName),
+                    propertyName,
+                    fieldLength,
+                    charset(encoding.characterEncoding()),
+                    offset);
         } else {
-            sb.append(String.format(
-                    "\n" +
-                            indent + "    public %s %s(string src)\n" +
-                            indent + "    {\n" +
-                            indent + "        int length = %d;\n" +
-                            indent + "        byte[] bytes = src.GetBytes(%s);\n" +
-                            indent + "        if (bytes.Length > length)\n" +
-                            indent + "        {\n" +
-                            indent + "            throw new IndexOutOfRangeException(" +
-                            "\"String too large for copy: byte length=\" + bytes.length);\n" +
-                            indent + "        }\n\n" +
-                            indent + "        buffer.PutBytes(this._offset + %d, bytes, 0, bytes.length);\n\n" +
-                            indent + "        for (int start = bytes.length; start < length; ++start)\n" +
-                            indent + "        {\n" +
-                            indent + "            _buffer.PutByte(this._offset + %d + start, (byte)0);\n" +
-                            indent + "        }\n\n" +
-                            indent + "        return this;\n" +
-                            indent + "    }\n",
+            CHAR_ARRAY_STRING_ENCODE.appendTo(
+                    sb,
+                    indent,
                     formatClassName(containingClassName),
                     propertyName,
                     fieldLength,
                     charset(encoding.characterEncoding()),
                     offset,
-                    offset));
+                    offset);
         }
     }
 
+    private static final CSharpTemplate CONST_PROPERTY = CSharpTemplate.compile(
+            "\n" +
+            "%i    public %s %s()\n" +
+            "%i    {\n" +
+            "%i        return %s;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate CONST_ARRAY_VALUE = CSharpTemplate.compile(
+            "\n" +
+            "%i    private static byte[] %s_VALUE = { %s };\n");
+
+    private static final CSharpTemplate CONST_ARRAY_ELEMENT = CSharpTemplate.compile(
+            "%i    public %s %s(int index)\n" +
+            "%i    {\n" +
+            "%i        return %s_VALUE[index];\n" +
+            "%i    }\n\n");
+
+    private static final CSharpTemplate CONST_ARRAY_BYTES = CSharpTemplate.compile(
+            "%i    public int Get%s(byte[] dst, int offset, int length)\n" +
+            "%i    {\n" +
+            "%i        int bytesCopied = Math.Min(length, %d);\n" +
+            "%i        Array.Copy(%s_VALUE, 0, dst, offset, bytesCopied);\n\n" +
+            "%i        return bytesCopied;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate CONST_STRING_PROPERTY = CSharpTemplate.compile(
+            "\n" +
+            "%i    public string %s()\n" +
+            "%i    {\n" +
+            "%i        return \"%s\";\n" +
+            "%i    }\n\n");
+
+    private static final CSharpTemplate CONST_BYTE_PROPERTY = CSharpTemplate.compile(
+            "\n" +
+            "%i    public byte %s()\n" +
+            "%i    {\n" +
+            "%i        return (byte)%s;\n" +
+            "%i    }\n\n");
+
     private CharSequence generateConstPropertyMethods(
             final String propertyName, final Token token, final String indent) {
         final Encoding encoding = token.encoding();
         if (encoding.primitiveType() != PrimitiveType.CHAR) {
-            return String.format(
-                    "\n" +
-                            indent + "    public %s %s()\n" +
-                            indent + "    {\n" +
-                            indent + "        return %s;\n" +
-                            indent + "    }\n",
+            return CONST_PROPERTY.render(
+                    indent,
                     csharpTypeName(encoding.primitiveType()),
                     propertyName,
                     generateLiteral(encoding.primitiveType(), encoding.constValue().toString()));
@@ -2011,80 +3858,149 @@ public class CSharpGenerator implements CodeGenerator {
         final CharSequence values = generateByteLiteralList(
                 encoding.constValue().byteArrayValue(encoding.primitiveType()));
 
-        sb.append(String.format(
-                "\n" +
-                        indent + "    private static byte[] %s_VALUE = { %s };\n",
-                propertyName.toUpperCase(),
-                values));
+        CONST_ARRAY_VALUE.appendTo(sb, indent, propertyName.toUpperCase(), values);
 
         generateArrayLengthMethod(propertyName, indent, constBytes.length, sb);
 
-        sb.append(String.format(
-                indent + "    public %s %s(int index)\n" +
-                        indent + "    {\n" +
-                        indent + "        return %s_VALUE[index];\n" +
-                        indent + "    }\n\n",
-                javaTypeName,
-                propertyName,
-                propertyName.toUpperCase()));
+        CONST_ARRAY_ELEMENT.appendTo(sb, indent, javaTypeName, propertyName, propertyName.toUpperCase());
 
-        sb.append(String.format(
-                indent + "    public int Get%s(byte[] dst, int offset, int length)\n" +
-                        indent + "    {\n" +
-                        indent + "        int bytesCopied = Math.Min(length, %d);\n" +
-                        indent + "        Array.Copy(%s_VALUE, 0, dst, offset, bytesCopied);\n\n" +
-                        indent + "        return bytesCopied;\n" +
-                        indent + "    }\n",
+        CONST_ARRAY_BYTES.appendTo(
+                sb,
+                indent,
                 toUpperFirstChar(propertyName),
                 constBytes.length,
-                propertyName.toUpperCase()));
+                propertyName.toUpperCase());
 
         if (constBytes.length > 1) {
-            sb.append(String.format(
-                    "\n" +
-                            indent + "    public string %s()\n" +
-                            indent + "    {\n" +
-                            indent + "        return \"%s\";\n" +
-                            indent + "    }\n\n",
-                    propertyName,
-                    encoding.constValue()));
+            CONST_STRING_PROPERTY.appendTo(sb, indent, propertyName, encoding.constValue());
         } else {
-            sb.append(String.format(
-                    "\n" +
-                            indent + "    public byte %s()\n" +
-                            indent + "    {\n" +
-                            indent + "        return (byte)%s;\n" +
-                            indent + "    }\n\n",
-                    propertyName,
-                    encoding.constValue()));
+            CONST_BYTE_PROPERTY.appendTo(sb, indent, propertyName, encoding.constValue());
         }
 
         return sb;
     }
 
-    private CharSequence generateDecoderFlyweightCode(final String className, final Token token) {
-        final String wrapMethod = String.format(
-                "    public IMessageDecoderFlyweight Wrap(\n" +
-                        "        %2$s buffer, int offset, int actingBlockLength, int actingVersion)\n" +
-                        "    {\n" +
-                        "        this._buffer = buffer;\n" +
-                        "        this._offset = offset;\n" +
-                        "        this._actingBlockLength = actingBlockLength;\n" +
-                        "        this._actingVersion = actingVersion;\n" +
-                        "        Limit(offset + actingBlockLength);\n\n" +
-                        "        return this;\n" +
-                        "    }\n\n",
-                className,
-                readOnlyBuffer);
+    private static final CSharpTemplate DECODER_WRAP = CSharpTemplate.compile(
+            "    public IMessageDecoderFlyweight Wrap(\n" +
+            "        %2$s buffer, int offset, int actingBlockLength, int actingVersion)\n" +
+            "    {\n" +
+            "        this._buffer = buffer;\n" +
+            "        this._offset = offset;\n" +
+            "        this._actingBlockLength = actingBlockLength;\n" +
+            "        this._actingVersion = actingVersion;\n" +
+            "%3$s" +
+            "        Limit(offset + actingBlockLength);\n\n" +
+            "        return this;\n" +
+            "    }\n\n");
+
+    private static final CSharpTemplate CURRENT_VERSION_DECODER_WRAP = CSharpTemplate.compile(
+            "    /// <summary>\n" +
+            "    /// Wrap a message encoded with the current schema version and block length, for which no accessor\n" +
+            "    /// needs a version check. Messages of other versions must be decoded with <see cref=\"%3$s\"/>.\n" +
+            "    /// </summary>\n" +
+            "    /// <returns>false, without wrapping, if the message is not of the current version.</returns>\n" +
+            "    public bool TryWrap(%2$s buffer, int offset, int actingBlockLength, int actingVersion)\n" +
+            "    {\n" +
+            "        if (actingVersion != SCHEMA_VERSION || actingBlockLength != BLOCK_LENGTH)\n" +
+            "        {\n" +
+            "            return false;\n" +
+            "        }\n\n" +
+            "        this._buffer = buffer;\n" +
+            "        this._offset = offset;\n" +
+            "        this._actingBlockLength = actingBlockLength;\n" +
+            "        this._actingVersion = actingVersion;\n" +
+            "%4$s" +
+            "        Limit(offset + actingBlockLength);\n\n" +
+            "        return true;\n" +
+            "    }\n\n" +
+            "    public IMessageDecoderFlyweight Wrap(\n" +
+            "        %2$s buffer, int offset, int actingBlockLength, int actingVersion)\n" +
+            "    {\n" +
+            "        if (!TryWrap(buffer, offset, actingBlockLength, actingVersion))\n" +
+            "        {\n" +
+            "            throw new ArgumentException(\"message is not of the current version: actingVersion=\" +\n" +
+            "                actingVersion + \" actingBlockLength=\" + actingBlockLength);\n" +
+            "        }\n\n" +
+            "        return this;\n" +
+            "    }\n\n");
+
+    private CharSequence generateDecoderFlyweightCode(
+            final String className, final Token token, final boolean hasVarDataIndex) {
+        final String resetVarDataIndex = hasVarDataIndex ? "        this._varDataIndexed = false;\n" : "";
+        final CharSequence wrapMethod = shouldOmitVersionChecks ?
+                CURRENT_VERSION_DECODER_WRAP.render(
+                        BASE_INDENT,
+                        className,
+                        readOnlyBuffer,
+                        formatClassName(decoderName(token.name())),
+                        resetVarDataIndex) :
+                DECODER_WRAP.render(BASE_INDENT, className, readOnlyBuffer, resetVarDataIndex);
 
         return generateFlyweightCode(DECODER, className, token, wrapMethod, readOnlyBuffer);
     }
 
+    private static final CSharpTemplate FLYWEIGHT_CODE = CSharpTemplate.compile(
+            "    public const %1$s BLOCK_LENGTH = %2$s;\n" +
+            "    public const %3$s TEMPLATE_ID = %4$s;\n" +
+            "    public const %5$s SCHEMA_ID = %6$s;\n" +
+            "    public const %7$s SCHEMA_VERSION = %8$s;\n\n" +
+            "    private %9$s _parentMessage;\n" +
+            "    private %11$s _buffer;\n" +
+            "    protected int _offset;\n" +
+            "    protected int _limit;\n" +
+            "%13$s" +
+            "\n" +
+            "    public %9$s()\n" +
+            "    {\n" +
+            "        _parentMessage = this;\n" +
+            "    }\n\n" +
+            "    public int SbeBlockLength()\n" +
+            "    {\n" +
+            "        return BLOCK_LENGTH;\n" +
+            "    }\n\n" +
+            "    public int SbeTemplateId()\n" +
+            "    {\n" +
+            "        return TEMPLATE_ID;\n" +
+            "    }\n\n" +
+            "    public int SbeSchemaId()\n" +
+            "    {\n" +
+            "        return SCHEMA_ID;\n" +
+            "    }\n\n" +
+            "    public int SbeSchemaVersion()\n" +
+            "    {\n" +
+            "        return SCHEMA_VERSION;\n" +
+            "    }\n\n" +
+            "    public string SbeSemanticType()\n" +
+            "    {\n" +
+            "        return \"%10$s\";\n" +
+            "    }\n\n" +
+            "    public %11$s Buffer()\n" +
+            "    {\n" +
+            "        return _buffer;\n" +
+            "    }\n\n" +
+            "    public int Offset()\n" +
+            "    {\n" +
+            "        return _offset;\n" +
+            "    }\n\n" +
+            "%12$s" +
+            "    public int EncodedLength()\n" +
+            "    {\n" +
+            "        return _limit - _offset;\n" +
+            "    }\n\n" +
+            "    public int Limit()\n" +
+            "    {\n" +
+            "        return _limit;\n" +
+            "    }\n\n" +
+            "    public void Limit(int limit)\n" +
+            "    {\n" +
+            "        this._limit = limit;\n" +
+            "    }\n");
+
     private CharSequence generateFlyweightCode(
             final CodecType codecType,
             final String className,
             final Token token,
-            final String wrapMethod,
+            final CharSequence wrapMethod,
             final String bufferImplementation) {
         final HeaderStructure headerStructure = ir.headerStructure();
         final String blockLengthType = csharpTypeName(headerStructure.blockLengthType());
@@ -2097,62 +4013,8 @@ public class CSharpGenerator implements CodeGenerator {
                 "    protected int _actingBlockLength;\n" +
                         "    protected int _actingVersion;\n";
 
-        return String.format(
-                "    public const %1$s BLOCK_LENGTH = %2$s;\n" +
-                        "    public const %3$s TEMPLATE_ID = %4$s;\n" +
-                        "    public const %5$s SCHEMA_ID = %6$s;\n" +
-                        "    public const %7$s SCHEMA_VERSION = %8$s;\n\n" +
-                        "    private %9$s _parentMessage;\n" +
-                        "    private %11$s _buffer;\n" +
-                        "    protected int _offset;\n" +
-                        "    protected int _limit;\n" +
-                        "%13$s" +
-                        "\n" +
-                        "    public %9$s()\n" +
-                        "    {\n" +
-                        "        _parentMessage = this;\n" +
-                        "    }\n\n" +
-                        "    public int SbeBlockLength()\n" +
-                        "    {\n" +
-                        "        return BLOCK_LENGTH;\n" +
-                        "    }\n\n" +
-                        "    public int SbeTemplateId()\n" +
-                        "    {\n" +
-                        "        return TEMPLATE_ID;\n" +
-                        "    }\n\n" +
-                        "    public int SbeSchemaId()\n" +
-                        "    {\n" +
-                        "        return SCHEMA_ID;\n" +
-                        "    }\n\n" +
-                        "    public int SbeSchemaVersion()\n" +
-                        "    {\n" +
-                        "        return SCHEMA_VERSION;\n" +
-                        "    }\n\n" +
-                        "    public string SbeSemanticType()\n" +
-                        "    {\n" +
-                        "        return \"%10$s\";\n" +
-                        "    }\n\n" +
-                        "    public %11$s Buffer()\n" +
-                        "    {\n" +
-                        "        return _buffer;\n" +
-                        "    }\n\n" +
-                        "    public int Offset()\n" +
-                        "    {\n" +
-                        "        return _offset;\n" +
-                        "    }\n\n" +
-                        "%12$s" +
-                        "    public int EncodedLength()\n" +
-                        "    {\n" +
-                        "        return _limit - _offset;\n" +
-                        "    }\n\n" +
-                        "    public int Limit()\n" +
-                        "    {\n" +
-                        "        return _limit;\n" +
-                        "    }\n\n" +
-                        "    public void Limit(int limit)\n" +
-                        "    {\n" +
-                        "        this._limit = limit;\n" +
-                        "    }\n",
+        return FLYWEIGHT_CODE.render(
+                BASE_INDENT,
                 blockLengthType,
                 generateLiteral(headerStructure.blockLengthType(), Integer.toString(token.encodedLength())),
                 templateIdType,
@@ -2168,111 +4030,219 @@ public class CSharpGenerator implements CodeGenerator {
                 actingFields);
     }
 
+    private static final CSharpTemplate ENCODER_WRAP = CSharpTemplate.compile(
+            "    public %1$s Wrap(%2$s buffer, int offset)\n" +
+            "    {\n" +
+            "        this._buffer = buffer;\n" +
+            "        this._offset = offset;\n" +
+            "        Limit(offset + BLOCK_LENGTH);\n\n" +
+            "        return this;\n" +
+            "    }\n\n");
+
+    private static final CSharpTemplate ENCODER_WRAP_AND_APPLY_HEADER = CSharpTemplate.compile(
+            "    public %1$s WrapAndApplyHeader(\n" +
+            "        %2$s buffer, int offset, %3$s headerEncoder)\n" +
+            "    {\n" +
+            "        headerEncoder\n" +
+            "            .Wrap(buffer, offset);\n" +
+            "        headerEncoder\n" +
+            "            .BlockLength(BLOCK_LENGTH)\n" +
+            "            .TemplateId(TEMPLATE_ID)\n" +
+            "            .SchemaId(SCHEMA_ID)\n" +
+            "            .Version(SCHEMA_VERSION);\n\n" +
+            "        return Wrap(buffer, offset + %3$s.ENCODED_LENGTH);\n" +
+            "    }\n\n");
+
+    private static final CSharpTemplate ENCODER_WRAP_AND_APPLY_HEADER_BYTES = CSharpTemplate.compile(
+            "    /// <summary>\n" +
+            "    /// The encoded message header of this message, as a ulong read in the byte order of the schema.\n" +
+            "    /// </summary>\n" +
+            "    public const ulong HEADER_BYTES = %4$sUL;\n\n" +
+            "    /// <summary>\n" +
+            "    /// Write the message header with a single store and wrap the message body which follows it.\n" +
+            "    /// </summary>\n" +
+            "    public %1$s WrapAndApplyHeader(%2$s buffer, int offset)\n" +
+            "    {\n" +
+            "        buffer.PutLong(offset, SchemaByteOrder.Convert(unchecked((long)HEADER_BYTES)));\n\n" +
+            "        return Wrap(buffer, offset + %3$s.ENCODED_LENGTH);\n" +
+            "    }\n\n");
+
     private CharSequence generateEncoderFlyweightCode(final String className, final Token token) {
-        final String wrapMethod = String.format(
-                "    public %1$s Wrap(%2$s buffer, int offset)\n" +
-                        "    {\n" +
-                        "        this._buffer = buffer;\n" +
-                        "        this._offset = offset;\n" +
-                        "        Limit(offset + BLOCK_LENGTH);\n\n" +
-                        "        return this;\n" +
-                        "    }\n\n",
-                className,
-                mutableBuffer);
+        final StringBuilder wrapMethods = ENCODER_WRAP.render(BASE_INDENT, className, mutableBuffer);
+        final String headerEncoderName =
+                formatClassName(ir.headerStructure().tokens().get(0).applicableTypeName() + "Encoder");
 
-        final String wrapAndApplyHeaderMethod = String.format(
-                "    public %1$s WrapAndApplyHeader(\n" +
-                        "        %2$s buffer, int offset, %3$s headerEncoder)\n" +
-                        "    {\n" +
-                        "        headerEncoder\n" +
-                        "            .Wrap(buffer, offset);\n" +
-                        "        headerEncoder\n" +
-                        "            .BlockLength(BLOCK_LENGTH)\n" +
-                        "            .TemplateId(TEMPLATE_ID)\n" +
-                        "            .SchemaId(SCHEMA_ID)\n" +
-                        "            .Version(SCHEMA_VERSION);\n\n" +
-                        "        return Wrap(buffer, offset + %3$s.ENCODED_LENGTH);\n" +
-                        "    }\n\n",
-                className,
-                mutableBuffer,
-                formatClassName(ir.headerStructure().tokens().get(0).applicableTypeName() + "Encoder"));
+        ENCODER_WRAP_AND_APPLY_HEADER.appendTo(wrapMethods, BASE_INDENT, className, mutableBuffer, headerEncoderName);
+
+        final String headerBytes = generateHeaderBytes(token);
+        if (null != headerBytes) {
+            ENCODER_WRAP_AND_APPLY_HEADER_BYTES.appendTo(
+                    wrapMethods, BASE_INDENT, className, mutableBuffer, headerEncoderName, headerBytes);
+        }
+
+        return generateFlyweightCode(ENCODER, className, token, wrapMethods, mutableBuffer);
+    }
+
+    /**
+     * The message header of a message is constant, so for the standard 8 byte header it can be precomputed as the
+     * hex literal of the ulong which, converted by SchemaByteOrder, the buffer stores as the encoded header.
+     *
+     * @param msgToken for the message.
+     * @return the hex literal of the header or null if the header is not 8 bytes of integer fields.
+     */
+    private String generateHeaderBytes(final Token msgToken) {
+        final List<Token> tokens = ir.headerStructure().tokens();
+        if (tokens.get(0).encodedLength() != 8) {
+            return null;
+        }
+
+        final ByteBuffer header = ByteBuffer.allocate(8).order(ir.byteOrder());
+        int fieldCount = 0;
+        for (final Token token : tokens) {
+            if (token.signal() != Signal.ENCODING) {
+                continue;
+            }
+
+            final long value;
+            switch (token.name()) {
+                case HeaderStructure.BLOCK_LENGTH:
+                    value = msgToken.encodedLength();
+                    break;
+
+                case HeaderStructure.TEMPLATE_ID:
+                    value = msgToken.id();
+                    break;
+
+                case HeaderStructure.SCHEMA_ID:
+                    value = ir.id();
+                    break;
+
+                case HeaderStructure.SCHEMA_VERSION:
+                    value = ir.version();
+                    break;
+
+                default:
+                    return null;
+            }
+
+            final PrimitiveType type = token.encoding().primitiveType();
+            if (type == PrimitiveType.FLOAT || type == PrimitiveType.DOUBLE) {
+                return null;
+            }
+
+            switch (type.size()) {
+                case 1:
+                    header.put(token.offset(), (byte)value);
+                    break;
+
+                case 2:
+                    header.putShort(token.offset(), (short)value);
+                    break;
+
+                case 4:
+                    header.putInt(token.offset(), (int)value);
+                    break;
+
+                default:
+                    return null;
+            }
+
+            ++fieldCount;
+        }
+
+        if (fieldCount != 4) {
+            return null;
+        }
 
-        return generateFlyweightCode(
-                ENCODER, className, token, wrapMethod + wrapAndApplyHeaderMethod, mutableBuffer);
+        return "0x" + Long.toHexString(header.getLong(0));
     }
 
-    private CharSequence generateEncoderFields(
-            final String containingClassName, final List<Token> tokens, final String indent) {
+    private void generateEncoderFields(
+            final Writer out,
+            final String containingClassName,
+            final List<Token> tokens,
+            final String indent) throws IOException {
         final StringBuilder sb = new StringBuilder();
 
-        Generators.forEachField(
-                tokens,
-                (fieldToken, typeToken) ->
-                {
-                    final String propertyName = formatPropertyName(fieldToken.name());
-                    final String typeName = formatClassName(encoderName(typeToken.name()));
+        for (int i = 0, size = tokens.size(); i < size; ) {
+            final Token fieldToken = tokens.get(i);
+            if (fieldToken.signal() != Signal.BEGIN_FIELD) {
+                ++i;
+                continue;
+            }
+
+            final Token typeToken = tokens.get(i + 1);
+            final String propertyName = formatPropertyName(fieldToken.name());
+            final String typeName = formatClassName(encoderName(typeToken.name()));
 
-                    generateEncodingOffsetMethod(sb, fieldToken.name(), fieldToken.offset(), indent);
-                    generateEncodingLengthMethod(sb, fieldToken.name(), typeToken.encodedLength(), indent);
+            generateEncodingOffsetMethod(sb, fieldToken.name(), fieldToken.offset(), indent);
+            generateEncodingLengthMethod(sb, fieldToken.name(), typeToken.encodedLength(), indent);
 
-                    switch (typeToken.signal()) {
-                        case ENCODING:
-                            sb.append(generatePrimitiveEncoder(containingClassName, propertyName, typeToken, indent));
-                            break;
+            switch (typeToken.signal()) {
+                case ENCODING:
+                    sb.append(generatePrimitiveEncoder(containingClassName, propertyName, typeToken, indent));
+                    break;
 
-                        case BEGIN_ENUM:
-                            sb.append(generateEnumEncoder(containingClassName, propertyName, typeToken, indent));
-                            break;
+                case BEGIN_ENUM:
+                    sb.append(generateEnumEncoder(containingClassName, propertyName, typeToken, indent));
+                    break;
 
-                        case BEGIN_SET:
-                            sb.append(generateBitSetProperty(false, ENCODER, propertyName, typeToken, indent, typeName));
-                            break;
+                case BEGIN_SET:
+                    sb.append(generateBitSetProperty(false, ENCODER, propertyName, typeToken, indent, typeName));
+                    break;
 
-                        case BEGIN_COMPOSITE:
-                            sb.append(generateCompositeProperty(false, ENCODER, propertyName, typeToken, indent, typeName));
-                            break;
-                    }
-                });
+                case BEGIN_COMPOSITE:
+                    sb.append(generateCompositeProperty(false, ENCODER, propertyName, typeToken, indent, typeName));
+                    break;
+            }
 
-        return sb;
+            drainTo(sb, out);
+            i += fieldToken.componentTokenCount();
+        }
     }
 
-    private CharSequence generateDecoderFields(final List<Token> tokens, final String indent) {
+    private void generateDecoderFields(
+            final Writer out, final List<Token> tokens, final String indent) throws IOException {
         final StringBuilder sb = new StringBuilder();
 
-        Generators.forEachField(
-                tokens,
-                (fieldToken, typeToken) ->
-                {
-                    final String propertyName = formatPropertyName(fieldToken.name());
-                    final String typeName = decoderName(formatClassName(typeToken.name()));
-
-                    generateFieldIdMethod(sb, fieldToken, indent);
-                    generateFieldSinceVersionMethod(sb, fieldToken, indent);
-                    generateEncodingOffsetMethod(sb, fieldToken.name(), fieldToken.offset(), indent);
-                    generateEncodingLengthMethod(sb, fieldToken.name(), typeToken.encodedLength(), indent);
-                    generateFieldMetaAttributeMethod(sb, fieldToken, indent);
-
-                    switch (typeToken.signal()) {
-                        case ENCODING:
-                            sb.append(generatePrimitiveDecoder(false, propertyName, typeToken, indent));
-                            break;
-
-                        case BEGIN_ENUM:
-                            sb.append(generateEnumDecoder(false, fieldToken, propertyName, typeToken, indent));
-                            break;
-
-                        case BEGIN_SET:
-                            sb.append(generateBitSetProperty(false, DECODER, propertyName, typeToken, indent, typeName));
-                            break;
-
-                        case BEGIN_COMPOSITE:
-                            sb.append(generateCompositeProperty(false, DECODER, propertyName, typeToken, indent, typeName));
-                            break;
-                    }
-                });
+        for (int i = 0, size = tokens.size(); i < size; ) {
+            final Token fieldToken = tokens.get(i);
+            if (fieldToken.signal() != Signal.BEGIN_FIELD) {
+                ++i;
+                continue;
+            }
 
-        return sb;
+            final Token typeToken = tokens.get(i + 1);
+            final String propertyName = formatPropertyName(fieldToken.name());
+            final String typeName = decoderName(formatClassName(typeToken.name()));
+
+            generateFieldIdMethod(sb, fieldToken, indent);
+            generateFieldSinceVersionMethod(sb, fieldToken, indent);
+            generateEncodingOffsetMethod(sb, fieldToken.name(), fieldToken.offset(), indent);
+            generateEncodingLengthMethod(sb, fieldToken.name(), typeToken.encodedLength(), indent);
+            generateFieldMetaAttributeMethod(sb, fieldToken, indent);
+
+            switch (typeToken.signal()) {
+                case ENCODING:
+                    sb.append(generatePrimitiveDecoder(false, propertyName, typeToken, indent));
+                    break;
+
+                case BEGIN_ENUM:
+                    sb.append(generateEnumDecoder(false, fieldToken, propertyName, typeToken, indent));
+                    break;
+
+                case BEGIN_SET:
+                    sb.append(generateBitSetProperty(false, DECODER, propertyName, typeToken, indent, typeName));
+                    break;
+
+                case BEGIN_COMPOSITE:
+                    sb.append(generateCompositeProperty(false, DECODER, propertyName, typeToken, indent, typeName));
+                    break;
+            }
+
+            drainTo(sb, out);
+            i += fieldToken.componentTokenCount();
+        }
     }
 
     private String namespace() {
@@ -2297,6 +4267,28 @@ public class CSharpGenerator implements CodeGenerator {
         return sb.toString();
     }
 
+    private static final CSharpTemplate CONST_ENUM_DECODER = CSharpTemplate.compile(
+            "\n" +
+            "%i    public %s %s()\n" +
+            "%i    {\n" +
+            "%i        return %s.%s;\n" +
+            "%i    }\n\n");
+
+    private static final CSharpTemplate ENUM_DECODER = CSharpTemplate.compile(
+            "\n" +
+            "%i    public %1$s %2$s()\n" +
+            "%i    {\n" +
+            "%3$s" +
+            "%i        return (%4$s)%5$s;\n" +
+            "%i    }\n\n");
+
+    private static final CSharpTemplate ENUM_RAW_DECODER = CSharpTemplate.compile(
+            "%i    public %1$s %2$sRaw()\n" +
+            "%i    {\n" +
+            "%3$s" +
+            "%i        return %4$s;\n" +
+            "%i    }\n\n");
+
     private CharSequence generateEnumDecoder(
             final boolean inComposite,
             final Token signalToken,
@@ -2305,53 +4297,61 @@ public class CSharpGenerator implements CodeGenerator {
             final String indent) {
         final String enumName = formatClassName(token.applicableTypeName());
         final String typePrefix = toUpperFirstChar(token.encoding().primitiveType().primitiveName());
-        final String byteOrderStr = byteOrderString(token.encoding());
+        final ByteOrder byteOrder = token.encoding().byteOrder();
 
-        if (token.isConstantEncoding()) {
-            return String.format(
-                    "\n" +
-                            indent + "    public %s %s()\n" +
-                            indent + "    {\n" +
-                            indent + "        return %s.%s;\n" +
-                            indent + "    }\n\n",
+        if (signalToken.isConstantEncoding()) {
+            return CONST_ENUM_DECODER.render(
+                    indent,
                     enumName,
                     propertyName,
                     namespace(),
                     signalToken.encoding().constValue().toString());
         } else {
-            return String.format(
-                    "\n" +
-                            indent + "    public %1$s %2$s()\n" +
-                            indent + "    {\n" +
-                            "%3$s" +
-                            indent + "        return (%4$s)%5$s;\n" +
-                            indent + "    }\n\n",
+            final String get = generateGet(token.encoding().primitiveType(), "_offset + " + token.offset(), byteOrder);
+            final StringBuilder sb = ENUM_DECODER.render(
+                    indent,
                     enumName,
                     propertyName,
                     generateEnumFieldNotPresentCondition(token.version(), namespace(), enumName, indent),
                     enumName,
-                    generateGet(token.encoding().primitiveType(), "_offset + " + token.offset(), byteOrderStr)
-            );
+                    get);
+
+            ENUM_RAW_DECODER.appendTo(
+                    sb,
+                    indent,
+                    primitiveTypeName(token),
+                    propertyName,
+                    generateFieldNotPresentCondition(inComposite, token.version(), token.encoding(), indent),
+                    get);
+
+            return sb;
         }
     }
 
+    private static final CSharpTemplate ENUM_FIELD_NOT_PRESENT_CONDITION = CSharpTemplate.compile(
+            "%i        if (_parentMessage._actingVersion < %d) return %s.%s.NULL_VALUE;\n\n");
+
     private CharSequence generateEnumFieldNotPresentCondition(
             final int sinceVersion,
             final String namespace,
             final String enumName,
             final String indent
     ) {
-        if (0 == sinceVersion) {
+        if (shouldOmitVersionChecks || 0 == sinceVersion) {
             return "";
         }
 
-        return String.format(
-                indent + INDENT + INDENT + "if (_parentMessage._actingVersion < %d) return %s.%s.NULL_VALUE;\n\n",
-                sinceVersion,
-                namespace,
-                enumName);
+        return ENUM_FIELD_NOT_PRESENT_CONDITION.render(indent, sinceVersion, namespace, enumName);
     }
 
+    private static final CSharpTemplate ENUM_ENCODER = CSharpTemplate.compile(
+            "\n" +
+            "%i    public %s %s(%s value)\n" +
+            "%i    {\n" +
+            "%i        %s;\n" +
+            "%i        return this;\n" +
+            "%i    }\n");
+
     private CharSequence generateEnumEncoder(
             final String containingClassName, final String propertyName, final Token token, final String indent) {
         if (token.isConstantEncoding()) {
@@ -2362,20 +4362,23 @@ public class CSharpGenerator implements CodeGenerator {
         final Encoding encoding = token.encoding();
         final int offset = token.offset();
 
-        return String.format(
-                "\n" +
-                        indent + "    public %s %s(%s value)\n" +
-                        indent + "    {\n" +
-                        indent + "        %s;\n" +
-                        indent + "        return this;\n" +
-                        indent + "    }\n",
+        return ENUM_ENCODER.render(
+                indent,
                 formatClassName(containingClassName),
                 propertyName,
                 enumName,
-                generatePut(encoding.primitiveType(), "_offset + " + offset,
-                        "(" + csharpTypeName(encoding.primitiveType()) + ")value", byteOrderString(encoding)));
+                generatePut(encoding.primitiveType(), "_offset + " + offset, "(" + csharpTypeName(encoding.primitiveType()) + ")value", encoding.byteOrder()));
     }
 
+    private static final CSharpTemplate FLYWEIGHT_ACCESSOR = CSharpTemplate.compile(
+            "\n" +
+            "%i    public %s %s()\n" +
+            "%i    {\n" +
+            "%s" +
+            "%i        _%s.Wrap(_buffer, _offset + %d);\n" +
+            "%i        return _%s;\n" +
+            "%i    }\n");
+
     private CharSequence generateBitSetProperty(
             final boolean inComposite,
             final CodecType codecType,
@@ -2385,27 +4388,17 @@ public class CSharpGenerator implements CodeGenerator {
             final String bitSetName) {
         final StringBuilder sb = new StringBuilder();
 
-        sb.append(String.format(
-                "\n" +
-                        indent + "    private %s _%s = new %s();\n",
-                bitSetName,
-                propertyName,
-                bitSetName));
+        FLYWEIGHT_FIELD.appendTo(sb, indent, bitSetName, propertyName, bitSetName);
 
-        sb.append(String.format(
-                "\n" +
-                        indent + "    public %s %s()\n" +
-                        indent + "    {\n" +
-                        "%s" +
-                        indent + "        _%s.Wrap(_buffer, _offset + %d);\n" +
-                        indent + "        return _%s;\n" +
-                        indent + "    }\n",
+        FLYWEIGHT_ACCESSOR.appendTo(
+                sb,
+                indent,
                 bitSetName,
                 propertyName,
                 generatePropertyNotPresentCondition(inComposite, codecType, token.version(), indent),
                 propertyName,
                 token.offset(),
-                propertyName));
+                propertyName);
 
         return sb;
     }
@@ -2419,32 +4412,31 @@ public class CSharpGenerator implements CodeGenerator {
             final String compositeName) {
         final StringBuilder sb = new StringBuilder();
 
-        sb.append(String.format(
-                "\n" +
-                        indent + "    private %s _%s = new %s();\n",
-                compositeName,
-                propertyName,
-                compositeName));
+        FLYWEIGHT_FIELD.appendTo(sb, indent, compositeName, propertyName, compositeName);
 
-        sb.append(String.format(
-                "\n" +
-                        indent + "    public %s %s()\n" +
-                        indent + "    {\n" +
-                        "%s" +
-                        indent + "        _%s.Wrap(_buffer, _offset + %d);\n" +
-                        indent + "        return _%s;\n" +
-                        indent + "    }\n",
+        FLYWEIGHT_ACCESSOR.appendTo(
+                sb,
+                indent,
                 compositeName,
                 propertyName,
                 generatePropertyNotPresentCondition(inComposite, codecType, token.version(), indent),
                 propertyName,
                 token.offset(),
-                propertyName));
+                propertyName);
 
         return sb;
     }
 
-    private String generateGet(final PrimitiveType type, final String index, final String byteOrder) {
+    /**
+     * Wrap a value read from or written to the buffer in its native byte order in the conversion to or from the byte
+     * order of the schema. The generated SchemaByteOrder tests BitConverter.IsLittleEndian, which the JIT folds, so
+     * the conversion is free when the host and the schema agree and the codecs remain correct when they do not.
+     */
+    private static String toSchemaByteOrder(final String value) {
+        return SCHEMA_BYTE_ORDER + ".Convert(" + value + ")";
+    }
+
+    private String generateGet(final PrimitiveType type, final String index, final ByteOrder byteOrder) {
         switch (type) {
             case INT8:
                 return "unchecked((sbyte)_buffer.GetByte(" + index + "))";
@@ -2454,37 +4446,43 @@ public class CSharpGenerator implements CodeGenerator {
                 return "_buffer.GetByte(" + index + ")";
 
             case INT16:
-                return "_buffer.GetShort(" + index + byteOrder + ")";
+                return toSchemaByteOrder("_buffer.GetShort(" + index + ")");
 
             case UINT16:
-                return "unchecked((ushort)_buffer.GetShort(" + index + byteOrder + "))";
+                return "unchecked((ushort)" + toSchemaByteOrder("_buffer.GetShort(" + index + ")") + ")";
 
             case INT32:
-                return "_buffer.GetInt(" + index + byteOrder + ")";
+                return toSchemaByteOrder("_buffer.GetInt(" + index + ")");
 
             case UINT32:
-                return "unchecked((uint)_buffer.GetInt(" + index + byteOrder + "))";
+                return "unchecked((uint)" + toSchemaByteOrder("_buffer.GetInt(" + index + ")") + ")";
 
             case FLOAT:
-                // TODO reinstate byte order when DirectBuffer supports byte order on GetFloat
-                // return "_buffer.GetFloat(" + index + byteOrder + ")";
-                return "_buffer.GetFloat(" + index + ")";
+                if (ByteOrder.BIG_ENDIAN == byteOrder) {
+                    return "BitConverter.Int32BitsToSingle(" +
+                            toSchemaByteOrder("_buffer.GetInt(" + index + ")") + ")";
+                }
+                return toSchemaByteOrder("_buffer.GetFloat(" + index + ")");
 
             case INT64:
-                return "_buffer.GetLong(" + index + byteOrder + ")";
+                return toSchemaByteOrder("_buffer.GetLong(" + index + ")");
 
             case UINT64:
-                return "unchecked((ulong)_buffer.GetLong(" + index + byteOrder + "))";
+                return "unchecked((ulong)" + toSchemaByteOrder("_buffer.GetLong(" + index + ")") + ")";
 
             case DOUBLE:
-                return "_buffer.GetDouble(" + index + byteOrder + ")";
+                if (ByteOrder.BIG_ENDIAN == byteOrder) {
+                    return "BitConverter.Int64BitsToDouble(" +
+                            toSchemaByteOrder("_buffer.GetLong(" + index + ")") + ")";
+                }
+                return toSchemaByteOrder("_buffer.GetDouble(" + index + ")");
         }
 
         throw new IllegalArgumentException("primitive type not supported: " + type);
     }
 
     private String generatePut(
-            final PrimitiveType type, final String index, final String value, final String byteOrder) {
+            final PrimitiveType type, final String index, final String value, final ByteOrder byteOrder) {
         switch (type) {
             case CHAR:
             case INT8:
@@ -2494,48 +4492,60 @@ public class CSharpGenerator implements CodeGenerator {
                 return "_buffer.PutByte(" + index + ", " + value + ")";
 
             case INT16:
-                return "_buffer.PutShort(" + index + ", " + value + byteOrder + ")";
+                return "_buffer.PutShort(" + index + ", " + toSchemaByteOrder(value) + ")";
 
             case UINT16:
-                return "_buffer.PutShort(" + index + ", unchecked((short)" + value + ")" + byteOrder + ")";
+                return "_buffer.PutShort(" + index + ", " +
+                        toSchemaByteOrder("unchecked((short)" + value + ")") + ")";
 
             case INT32:
-                return "_buffer.PutInt(" + index + ", " + value + byteOrder + ")";
+                return "_buffer.PutInt(" + index + ", " + toSchemaByteOrder(value) + ")";
 
             case UINT32:
-                return "_buffer.PutInt(" + index + ", unchecked((int)" + value + ")" + byteOrder + ")";
+                return "_buffer.PutInt(" + index + ", " +
+                        toSchemaByteOrder("unchecked((int)" + value + ")") + ")";
 
             case FLOAT:
-                // TODO reinstate when DirectBuffer supports byte order on PutFloat
-                // return "_buffer.PutFloat(" + index + ", " + value + byteOrder + ")";
-                return "_buffer.PutFloat(" + index + ", " + value + ")";
+                if (ByteOrder.BIG_ENDIAN == byteOrder) {
+                    return "_buffer.PutInt(" + index + ", " +
+                            toSchemaByteOrder("BitConverter.SingleToInt32Bits(" + value + ")") + ")";
+                }
+                return "_buffer.PutFloat(" + index + ", " + toSchemaByteOrder(value) + ")";
 
             case INT64:
-                return "_buffer.PutLong(" + index + ", " + value + byteOrder + ")";
+                return "_buffer.PutLong(" + index + ", " + toSchemaByteOrder(value) + ")";
 
             case UINT64:
-                return "_buffer.PutLong(" + index + ", unchecked((long)" + value + ")" + byteOrder + ")";
+                return "_buffer.PutLong(" + index + ", " +
+                        toSchemaByteOrder("unchecked((long)" + value + ")") + ")";
 
             case DOUBLE:
-                return "_buffer.PutDouble(" + index + ", " + value + byteOrder + ")";
+                if (ByteOrder.BIG_ENDIAN == byteOrder) {
+                    return "_buffer.PutLong(" + index + ", " +
+                            toSchemaByteOrder("BitConverter.DoubleToInt64Bits(" + value + ")") + ")";
+                }
+                return "_buffer.PutDouble(" + index + ", " + toSchemaByteOrder(value) + ")";
         }
 
         throw new IllegalArgumentException("primitive type not supported: " + type);
     }
 
-    private String generateChoiceGet(final PrimitiveType type, final String bitIndex, final String byteOrder) {
+    private String generateChoiceGet(final PrimitiveType type, final String bitIndex, final ByteOrder byteOrder) {
         switch (type) {
             case UINT8:
                 return "0 != (_buffer.GetByte(_offset) & (1 << " + bitIndex + "))";
 
             case UINT16:
-                return "0 != (_buffer.GetShort(_offset" + byteOrder + ") & (1 << " + bitIndex + "))";
+                return "0 != (" + toSchemaByteOrder("_buffer.GetShort(_offset)") +
+                        " & (1 << " + bitIndex + "))";
 
             case UINT32:
-                return "0 != (_buffer.GetInt(_offset" + byteOrder + ") & (1 << " + bitIndex + "))";
+                return "0 != (" + toSchemaByteOrder("_buffer.GetInt(_offset)") +
+                        " & (1 << " + bitIndex + "))";
 
             case UINT64:
-                return "0 != (_buffer.GetLong(_offset" + byteOrder + ") & (1L << " + bitIndex + "))";
+                return "0 != (" + toSchemaByteOrder("_buffer.GetLong(_offset)") +
+                        " & (1L << " + bitIndex + "))";
         }
 
         throw new IllegalArgumentException("primitive type not supported: " + type);
@@ -2559,7 +4569,7 @@ public class CSharpGenerator implements CodeGenerator {
         throw new IllegalArgumentException("primitive type not supported: " + type);
     }
 
-    private String generateChoicePut(final PrimitiveType type, final String bitIdx, final String byteOrder) {
+    private String generateChoicePut(final PrimitiveType type, final String bitIdx, final ByteOrder byteOrder) {
         switch (type) {
             case UINT8:
                 return
@@ -2569,21 +4579,21 @@ public class CSharpGenerator implements CodeGenerator {
 
             case UINT16:
                 return
-                        "        short bits = _buffer.GetShort(_offset" + byteOrder + ");\n" +
+                        "        short bits = " + toSchemaByteOrder("_buffer.GetShort(_offset)") + ";\n" +
                                 "        bits = (short)(value ? bits | (1 << " + bitIdx + ") : bits & ~(1 << " + bitIdx + "));\n" +
-                                "        _buffer.PutShort(_offset, bits" + byteOrder + ");";
+                                "        _buffer.PutShort(_offset, " + toSchemaByteOrder("bits") + ");";
 
             case UINT32:
                 return
-                        "        int bits = _buffer.GetInt(_offset" + byteOrder + ");\n" +
+                        "        int bits = " + toSchemaByteOrder("_buffer.GetInt(_offset)") + ";\n" +
                                 "        bits = value ? bits | (1 << " + bitIdx + ") : bits & ~(1 << " + bitIdx + ");\n" +
-                                "        _buffer.PutInt(_offset, bits" + byteOrder + ");";
+                                "        _buffer.PutInt(_offset, " + toSchemaByteOrder("bits") + ");";
 
             case UINT64:
                 return
-                        "        long bits = _buffer.GetLong(_offset" + byteOrder + ");\n" +
+                        "        long bits = " + toSchemaByteOrder("_buffer.GetLong(_offset)") + ";\n" +
                                 "        bits = value ? bits | (1L << " + bitIdx + ") : bits & ~(1L << " + bitIdx + ");\n" +
-                                "        _buffer.PutLong(_offset, bits" + byteOrder + ");";
+                                "        _buffer.PutLong(_offset, " + toSchemaByteOrder("bits") + ");";
         }
 
         throw new IllegalArgumentException("primitive type not supported: " + type);
@@ -2712,7 +4722,8 @@ public class CSharpGenerator implements CodeGenerator {
         return sb.toString();
     }
 
-    private CharSequence generateDecoderDisplay(
+    private void generateDecoderDisplay(
+            final Writer out,
             final String name,
             final List<Token> tokens,
             final List<Token> groups,
@@ -2747,23 +4758,25 @@ public class CSharpGenerator implements CodeGenerator {
         append(sb, indent, "    }");
         append(sb, indent, "    builder.Append(BLOCK_LENGTH);");
         append(sb, indent, "    builder.Append(\"):\");");
-        appendDecoderDisplay(sb, tokens, groups, varData, indent + INDENT);
+        drainTo(sb, out);
+
+        appendDecoderDisplay(out, tokens, groups, varData, indent + INDENT);
         sb.append('\n');
         append(sb, indent, "    Limit(originalLimit);");
         sb.append('\n');
         append(sb, indent, "    return builder;");
         append(sb, indent, "}");
-
-        return sb.toString();
+        drainTo(sb, out);
     }
 
     private void appendGroupInstanceDecoderDisplay(
-            final StringBuilder sb,
+            final Writer out,
             final List<Token> fields,
             final List<Token> groups,
             final List<Token> varData,
-            final String baseIndent) {
+            final String baseIndent) throws IOException {
         final String indent = baseIndent + INDENT;
+        final StringBuilder sb = new StringBuilder();
 
         sb.append('\n');
         appendToString(sb, indent);
@@ -2771,18 +4784,26 @@ public class CSharpGenerator implements CodeGenerator {
         append(sb, indent, "public StringBuilder AppendTo(StringBuilder builder)");
         append(sb, indent, "{");
         Separators.BEGIN_COMPOSITE.appendToGeneratedBuilder(sb, indent + INDENT, "builder");
-        appendDecoderDisplay(sb, fields, groups, varData, indent + INDENT);
+        drainTo(sb, out);
+
+        appendDecoderDisplay(out, fields, groups, varData, indent + INDENT);
         Separators.END_COMPOSITE.appendToGeneratedBuilder(sb, indent + INDENT, "builder");
         append(sb, indent, "    return builder;");
         append(sb, indent, "}");
+        drainTo(sb, out);
     }
 
+    /**
+     * Each field, group and var-data display is buffered until the next one starts so the trailing field separator
+     * of the last one which has a separator can be dropped before it is written.
+     */
     private void appendDecoderDisplay(
-            final StringBuilder sb,
+            final Writer out,
             final List<Token> fields,
             final List<Token> groups,
             final List<Token> varData,
-            final String indent) {
+            final String indent) throws IOException {
+        final StringBuilder sb = new StringBuilder();
         int lengthBeforeLastGeneratedSeparator = -1;
 
         for (int i = 0, size = fields.size(); i < size; ) {
@@ -2790,6 +4811,7 @@ public class CSharpGenerator implements CodeGenerator {
             if (fieldToken.signal() == Signal.BEGIN_FIELD) {
                 final Token encodingToken = fields.get(i + 1);
 
+                drainTo(sb, out);
                 final String fieldName = formatPropertyName(fieldToken.name());
                 append(sb, indent, "//" + fieldToken);
                 lengthBeforeLastGeneratedSeparator = writeTokenDisplay(fieldName, encodingToken, sb, indent);
@@ -2806,6 +4828,7 @@ public class CSharpGenerator implements CodeGenerator {
                 throw new IllegalStateException("tokens must begin with BEGIN_GROUP: token=" + groupToken);
             }
 
+            drainTo(sb, out);
             append(sb, indent, "//" + groupToken);
 
             final String groupName = formatPropertyName(groupToken.name());
@@ -2837,6 +4860,7 @@ public class CSharpGenerator implements CodeGenerator {
                 throw new IllegalStateException("tokens must begin with BEGIN_VAR_DATA: token=" + varDataToken);
             }
 
+            drainTo(sb, out);
             append(sb, indent, "//" + varDataToken);
 
             final String characterEncoding = varData.get(i + 3).encoding().characterEncoding();
@@ -2857,6 +4881,7 @@ public class CSharpGenerator implements CodeGenerator {
         if (-1 != lengthBeforeLastGeneratedSeparator) {
             sb.setLength(lengthBeforeLastGeneratedSeparator);
         }
+        drainTo(sb, out);
     }
 
     private int writeTokenDisplay(
@@ -2916,6 +4941,11 @@ public class CSharpGenerator implements CodeGenerator {
         return lengthBeforeFieldSeparator;
     }
 
+    private static void drainTo(final StringBuilder sb, final Writer out) throws IOException {
+        out.append(sb);
+        sb.setLength(0);
+    }
+
     private void appendToString(final StringBuilder sb, final String indent) {
         sb.append('\n');
         append(sb, indent, "public override string ToString()");
@@ -2924,8 +4954,225 @@ public class CSharpGenerator implements CodeGenerator {
         append(sb, indent, "}");
     }
 
+    /**
+     * Options for a {@link CSharpGenerator}, which all default to off apart from the buffer types.
+     */
+    public static final class Options {
+        private String mutableBuffer = "IMutableDirectBuffer";
+        private String readOnlyBuffer = "IDirectBuffer";
+        private boolean groupOrderAnnotation;
+        private boolean interfaces;
+        private boolean decodeUnknownEnumValues;
+        private boolean parallel;
+        private boolean spanDecoders;
+        private boolean unsafeCode;
+        private boolean internStrings;
+        private boolean trustedAccessors;
+        private boolean currentVersionDecoders;
+        private boolean varDataIndex;
+
+        /**
+         * @param mutableBuffer implementation used for encoding.
+         * @return this for a fluent API.
+         */
+        public Options mutableBuffer(final String mutableBuffer) {
+            this.mutableBuffer = mutableBuffer;
+            return this;
+        }
+
+        /**
+         * @return implementation used for encoding.
+         */
+        public String mutableBuffer() {
+            return mutableBuffer;
+        }
+
+        /**
+         * @param readOnlyBuffer implementation used for decoding.
+         * @return this for a fluent API.
+         */
+        public Options readOnlyBuffer(final String readOnlyBuffer) {
+            this.readOnlyBuffer = readOnlyBuffer;
+            return this;
+        }
+
+        /**
+         * @return implementation used for decoding.
+         */
+        public String readOnlyBuffer() {
+            return readOnlyBuffer;
+        }
+
+        /**
+         * @param groupOrderAnnotation generate the group order annotation in the codecs.
+         * @return this for a fluent API.
+         */
+        public Options groupOrderAnnotation(final boolean groupOrderAnnotation) {
+            this.groupOrderAnnotation = groupOrderAnnotation;
+            return this;
+        }
+
+        /**
+         * @return true if the group order annotation is generated in the codecs.
+         */
+        public boolean groupOrderAnnotation() {
+            return groupOrderAnnotation;
+        }
+
+        /**
+         * @param interfaces generate interfaces for common methods.
+         * @return this for a fluent API.
+         */
+        public Options interfaces(final boolean interfaces) {
+            this.interfaces = interfaces;
+            return this;
+        }
+
+        /**
+         * @return true if interfaces are generated for common methods.
+         */
+        public boolean interfaces() {
+            return interfaces;
+        }
+
+        /**
+         * @param decodeUnknownEnumValues generate support for unknown enum values when decoding.
+         * @return this for a fluent API.
+         */
+        public Options decodeUnknownEnumValues(final boolean decodeUnknownEnumValues) {
+            this.decodeUnknownEnumValues = decodeUnknownEnumValues;
+            return this;
+        }
+
+        /**
+         * @return true if support for unknown enum values is generated when decoding.
+         */
+        public boolean decodeUnknownEnumValues() {
+            return decodeUnknownEnumValues;
+        }
+
+        /**
+         * @param parallel generate each type and message on the common ForkJoinPool.
+         * @return this for a fluent API.
+         */
+        public Options parallel(final boolean parallel) {
+            this.parallel = parallel;
+            return this;
+        }
+
+        /**
+         * @return true if each type and message is generated on the common ForkJoinPool.
+         */
+        public boolean parallel() {
+            return parallel;
+        }
+
+        /**
+         * @param spanDecoders also generate ref struct decoders over a ReadOnlySpan.
+         * @return this for a fluent API.
+         */
+        public Options spanDecoders(final boolean spanDecoders) {
+            this.spanDecoders = spanDecoders;
+            return this;
+        }
+
+        /**
+         * @return true if ref struct decoders over a ReadOnlySpan are also generated.
+         */
+        public boolean spanDecoders() {
+            return spanDecoders;
+        }
+
+        /**
+         * @param unsafeCode read directly from the buffer memory in unsafe methods.
+         * @return this for a fluent API.
+         */
+        public Options unsafeCode(final boolean unsafeCode) {
+            this.unsafeCode = unsafeCode;
+            return this;
+        }
+
+        /**
+         * @return true if unsafe methods read directly from the buffer memory.
+         */
+        public boolean unsafeCode() {
+            return unsafeCode;
+        }
+
+        /**
+         * @param internStrings decode strings through a generated pool keyed by their bytes.
+         * @return this for a fluent API.
+         */
+        public Options internStrings(final boolean internStrings) {
+            this.internStrings = internStrings;
+            return this;
+        }
+
+        /**
+         * @return true if strings are decoded through a generated pool keyed by their bytes.
+         */
+        public boolean internStrings() {
+            return internStrings;
+        }
+
+        /**
+         * @param trustedAccessors generate TryValidate and unchecked pointer accessors on decoders.
+         * @return this for a fluent API.
+         */
+        public Options trustedAccessors(final boolean trustedAccessors) {
+            this.trustedAccessors = trustedAccessors;
+            return this;
+        }
+
+        /**
+         * @return true if TryValidate and unchecked pointer accessors are generated on decoders.
+         */
+        public boolean trustedAccessors() {
+            return trustedAccessors;
+        }
+
+        /**
+         * @param currentVersionDecoders also generate decoders without version checks for messages encoded with the
+         *                               current schema version.
+         * @return this for a fluent API.
+         */
+        public Options currentVersionDecoders(final boolean currentVersionDecoders) {
+            this.currentVersionDecoders = currentVersionDecoders;
+            return this;
+        }
+
+        /**
+         * @return true if decoders without version checks are also generated.
+         */
+        public boolean currentVersionDecoders() {
+            return currentVersionDecoders;
+        }
+
+        /**
+         * @param varDataIndex generate a lazy index of the group and var-data offsets of messages with Seek methods
+         *                     for reading them in any order.
+         * @return this for a fluent API.
+         */
+        public Options varDataIndex(final boolean varDataIndex) {
+            this.varDataIndex = varDataIndex;
+            return this;
+        }
+
+        /**
+         * @return true if a lazy index of the group and var-data offsets of messages is generated.
+         */
+        public boolean varDataIndex() {
+            return varDataIndex;
+        }
+    }
+
     enum CodecType {
         DECODER,
         ENCODER
     }
+
+    @FunctionalInterface
+    private interface GenerationTask {
+        void generate() throws IOException;
+    }
 }
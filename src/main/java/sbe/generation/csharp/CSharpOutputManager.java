@@ -4,9 +4,12 @@ import org.agrona.generation.OutputManager;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Objects;
 
 import static java.io.File.separatorChar;
@@ -17,6 +20,7 @@ import static java.io.File.separatorChar;
  */
 public class CSharpOutputManager implements OutputManager {
     private final File outputDir;
+    private final boolean writeOnlyIfChanged;
 
     /**
      * Create a new {@link OutputManager} for generating Java source files into a given package.
@@ -25,6 +29,32 @@ public class CSharpOutputManager implements OutputManager {
      * @param packageName for the generated source code relative to the baseDirName.
      */
     public CSharpOutputManager(final String baseDirName, final String packageName) {
+        this(baseDirName, packageName, false);
+    }
+
+    /**
+     * Create a new {@link OutputManager} for generating Java source files into a given package.
+     * <p>
+     * When writing only if changed each output is buffered in memory and the file is left untouched, including its
+     * timestamp, if it already has the same content.
+     *
+     * @param baseDirName        for the generated source code.
+     * @param packageName        for the generated source code relative to the baseDirName.
+     * @param writeOnlyIfChanged should existing files only be rewritten when their content differs.
+     */
+    public CSharpOutputManager(final String baseDirName, final String packageName, final boolean writeOnlyIfChanged) {
+        this.writeOnlyIfChanged = writeOnlyIfChanged;
+        outputDir = createOutputDir(baseDirName, packageName);
+    }
+
+    /**
+     * Create, if necessary, the directory for a package under a base directory.
+     *
+     * @param baseDirName for the generated source code.
+     * @param packageName for the generated source code relative to the baseDirName.
+     * @return the directory for the package.
+     */
+    static File createOutputDir(final String baseDirName, final String packageName) {
         Objects.requireNonNull(baseDirName, "baseDirName");
         Objects.requireNonNull(packageName, "packageName");
 
@@ -33,12 +63,14 @@ public class CSharpOutputManager implements OutputManager {
                 (lastChar == separatorChar ? baseDirName : baseDirName + separatorChar) +
                         packageName.replace('.', separatorChar);
 
-        outputDir = new File(dirName);
+        final File outputDir = new File(dirName);
         if (!outputDir.exists()) {
             if (!outputDir.mkdirs()) {
                 throw new IllegalStateException("Unable to create directory: " + dirName);
             }
         }
+
+        return outputDir;
     }
 
     /**
@@ -53,6 +85,53 @@ public class CSharpOutputManager implements OutputManager {
     public Writer createOutput(final String name) throws IOException {
         final File targetFile = new File(outputDir, name + ".cs");
 
+        if (writeOnlyIfChanged) {
+            return new WriteIfChangedWriter(targetFile.toPath());
+        }
+
         return Files.newBufferedWriter(targetFile.toPath(), StandardCharsets.UTF_8);
     }
+
+    /**
+     * Buffers the output and only writes it on close if the target file does not already hold the same bytes.
+     */
+    private static final class WriteIfChangedWriter extends StringWriter {
+        private final Path path;
+        private boolean isClosed;
+
+        WriteIfChangedWriter(final Path path) {
+            super(8192);
+            this.path = path;
+        }
+
+        public void close() throws IOException {
+            if (isClosed) {
+                return;
+            }
+
+            isClosed = true;
+            writeIfChanged(path, toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Write content to a file unless the file already holds the same bytes, in which case it is left untouched.
+     *
+     * @param path    of the file.
+     * @param content to be written.
+     * @throws IOException if the file could not be read or written.
+     */
+    static void writeIfChanged(final Path path, final byte[] content) throws IOException {
+        if (!hasContent(path, content)) {
+            Files.write(path, content);
+        }
+    }
+
+    private static boolean hasContent(final Path path, final byte[] content) throws IOException {
+        if (!Files.isRegularFile(path) || Files.size(path) != content.length) {
+            return false;
+        }
+
+        return Arrays.equals(Files.readAllBytes(path), content);
+    }
 }
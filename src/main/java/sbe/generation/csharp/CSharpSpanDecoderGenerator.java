@@ -0,0 +1,839 @@
+package sbe.generation.csharp;
+
+import org.agrona.generation.OutputManager;
+import uk.co.real_logic.sbe.PrimitiveType;
+import uk.co.real_logic.sbe.ir.Encoding;
+import uk.co.real_logic.sbe.ir.HeaderStructure;
+import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.ir.Signal;
+import uk.co.real_logic.sbe.ir.Token;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static sbe.generation.csharp.CSharpUtil.*;
+import static uk.co.real_logic.sbe.ir.GenerationUtil.*;
+
+/**
+ * Generates decoders as {@code ref struct}s over a {@code ReadOnlySpan<byte>}, read with {@code BinaryPrimitives},
+ * as an alternative flavour to the {@code IDirectBuffer} flyweights generated by {@link CSharpGenerator}.
+ * <p>
+ * The decoders are values so can be created per message with no allocation, and as the span is not behind an
+ * interface the reads have no virtual calls. A decoder is generated for each message and composite. Enums are
+ * shared with the flyweights and sets are exposed as their raw value, which can be tested with the static choice
+ * methods of the set decoder.
+ * <p>
+ * As a {@code ref struct} can not hold a reference to its parent, the accessor for a repeating group moves the
+ * parent past the whole group when it is called, and a group moves past any nested groups and var-data of an entry
+ * when the entry is reached. Groups and var-data must still be read in schema order but any of them may be skipped.
+ */
+final class CSharpSpanDecoderGenerator {
+    static final String SPAN_DECODER_SUFFIX = "SpanDecoder";
+
+    private static final String INDENT = "    ";
+
+    private final Ir ir;
+    private final String namespace;
+    private final OutputManager outputManager;
+
+    CSharpSpanDecoderGenerator(final Ir ir, final String namespace, final OutputManager outputManager) {
+        this.ir = ir;
+        this.namespace = namespace;
+        this.outputManager = outputManager;
+    }
+
+    static String spanDecoderName(final String typeName) {
+        return formatClassName(typeName) + SPAN_DECODER_SUFFIX;
+    }
+
+    private static final CSharpTemplate FILE_HEADER = CSharpTemplate.compile(
+            "/* Generated SBE (Simple Binary Encoding) message codec */\n" +
+            "using System;\n" +
+            "using System.Buffers.Binary;\n" +
+            "using System.Text;\n\n" +
+            "namespace %s {\n\n");
+
+    private static final CSharpTemplate MESSAGE_DECLARATION = CSharpTemplate.compile(
+            "public ref struct %1$s\n" +
+            "{\n" +
+            "    public const %2$s BLOCK_LENGTH = %3$s;\n" +
+            "    public const %4$s TEMPLATE_ID = %5$s;\n" +
+            "    public const %6$s SCHEMA_ID = %7$s;\n" +
+            "    public const %8$s SCHEMA_VERSION = %9$s;\n\n" +
+            "    private readonly ReadOnlySpan<byte> _buffer;\n" +
+            "    private readonly int _offset;\n" +
+            "    private readonly int _actingBlockLength;\n" +
+            "    private readonly int _actingVersion;\n" +
+            "    private int _limit;\n\n" +
+            "    public %1$s(ReadOnlySpan<byte> buffer, int offset, int actingBlockLength, int actingVersion)\n" +
+            "    {\n" +
+            "        _buffer = buffer;\n" +
+            "        _offset = offset;\n" +
+            "        _actingBlockLength = actingBlockLength;\n" +
+            "        _actingVersion = actingVersion;\n" +
+            "        _limit = offset + actingBlockLength;\n" +
+            "    }\n\n" +
+            "    public ReadOnlySpan<byte> Buffer()\n" +
+            "    {\n" +
+            "        return _buffer;\n" +
+            "    }\n\n" +
+            "    public int Offset()\n" +
+            "    {\n" +
+            "        return _offset;\n" +
+            "    }\n\n" +
+            "    public int ActingBlockLength()\n" +
+            "    {\n" +
+            "        return _actingBlockLength;\n" +
+            "    }\n\n" +
+            "    public int ActingVersion()\n" +
+            "    {\n" +
+            "        return _actingVersion;\n" +
+            "    }\n\n" +
+            "    public int EncodedLength()\n" +
+            "    {\n" +
+            "        return _limit - _offset;\n" +
+            "    }\n\n" +
+            "    public int Limit()\n" +
+            "    {\n" +
+            "        return _limit;\n" +
+            "    }\n");
+
+    /**
+     * Generate the span decoder for a message.
+     *
+     * @param msgToken the message token.
+     * @param fields   the tokens of the fields of the message block.
+     * @param groups   the tokens of the repeating groups of the message.
+     * @param varData  the tokens of the var-data of the message.
+     * @throws IOException if an error is encountered when writing the output.
+     */
+    void generateMessage(
+            final Token msgToken,
+            final List<Token> fields,
+            final List<Token> groups,
+            final List<Token> varData) throws IOException {
+        final String className = spanDecoderName(msgToken.name());
+        final HeaderStructure headerStructure = ir.headerStructure();
+
+        try (Writer out = outputManager.createOutput(className)) {
+            out.append(FILE_HEADER.render("", namespace));
+            out.append(MESSAGE_DECLARATION.render(
+                    "",
+                    className,
+                    csharpTypeName(headerStructure.blockLengthType()),
+                    generateLiteral(headerStructure.blockLengthType(), Integer.toString(msgToken.encodedLength())),
+                    csharpTypeName(headerStructure.templateIdType()),
+                    generateLiteral(headerStructure.templateIdType(), Integer.toString(msgToken.id())),
+                    csharpTypeName(headerStructure.schemaIdType()),
+                    generateLiteral(headerStructure.schemaIdType(), Integer.toString(ir.id())),
+                    csharpTypeName(headerStructure.schemaVersionType()),
+                    generateLiteral(headerStructure.schemaVersionType(), Integer.toString(ir.version()))));
+
+            generateFields(out, fields, "");
+            generateGroups(out, groups, "");
+            generateVarData(out, varData, "");
+
+            out.append("}\n");
+            out.append("}\n");
+        }
+    }
+
+    private static final CSharpTemplate COMPOSITE_DECLARATION = CSharpTemplate.compile(
+            "public ref struct %1$s\n" +
+            "{\n" +
+            "    public const int ENCODED_LENGTH = %2$d;\n\n" +
+            "    private readonly ReadOnlySpan<byte> _buffer;\n" +
+            "    private readonly int _offset;\n\n" +
+            "    public %1$s(ReadOnlySpan<byte> buffer, int offset)\n" +
+            "    {\n" +
+            "        _buffer = buffer;\n" +
+            "        _offset = offset;\n" +
+            "    }\n\n" +
+            "    public ReadOnlySpan<byte> Buffer()\n" +
+            "    {\n" +
+            "        return _buffer;\n" +
+            "    }\n\n" +
+            "    public int Offset()\n" +
+            "    {\n" +
+            "        return _offset;\n" +
+            "    }\n\n" +
+            "    public int EncodedLength()\n" +
+            "    {\n" +
+            "        return ENCODED_LENGTH;\n" +
+            "    }\n");
+
+    /**
+     * Generate the span decoder for a composite type.
+     *
+     * @param tokens for the composite from its BEGIN_COMPOSITE to its END_COMPOSITE token.
+     * @throws IOException if an error is encountered when writing the output.
+     */
+    void generateComposite(final List<Token> tokens) throws IOException {
+        final Token token = tokens.get(0);
+        final String className = spanDecoderName(token.applicableTypeName());
+
+        try (Writer out = outputManager.createOutput(className)) {
+            out.append(FILE_HEADER.render("", namespace));
+            out.append(COMPOSITE_DECLARATION.render("", className, token.encodedLength()));
+
+            final StringBuilder sb = new StringBuilder();
+            for (int i = 1, end = tokens.size() - 1; i < end; ) {
+                final Token encodingToken = tokens.get(i);
+                generateField(sb, true, encodingToken, encodingToken, "");
+                out.append(sb);
+                sb.setLength(0);
+
+                i += encodingToken.componentTokenCount();
+            }
+
+            out.append("}\n");
+            out.append("}\n");
+        }
+    }
+
+    private void generateFields(final Writer out, final List<Token> tokens, final String indent) throws IOException {
+        final StringBuilder sb = new StringBuilder();
+
+        for (int i = 0, size = tokens.size(); i < size; ) {
+            final Token fieldToken = tokens.get(i);
+            if (fieldToken.signal() != Signal.BEGIN_FIELD) {
+                ++i;
+                continue;
+            }
+
+            generateField(sb, false, fieldToken, tokens.get(i + 1), indent);
+            out.append(sb);
+            sb.setLength(0);
+
+            i += fieldToken.componentTokenCount();
+        }
+    }
+
+    private void generateField(
+            final StringBuilder sb,
+            final boolean inComposite,
+            final Token fieldToken,
+            final Token typeToken,
+            final String indent) {
+        final String propertyName = formatPropertyName(fieldToken.name());
+        final int sinceVersion = inComposite ? 0 : fieldToken.version();
+
+        switch (typeToken.signal()) {
+            case ENCODING:
+                if (typeToken.isConstantEncoding()) {
+                    generateConstant(sb, propertyName, typeToken, indent);
+                } else if (typeToken.arrayLength() > 1) {
+                    generateArray(sb, propertyName, typeToken, sinceVersion, indent);
+                } else {
+                    generatePrimitive(sb, propertyName, typeToken, sinceVersion, indent);
+                }
+                break;
+
+            case BEGIN_ENUM:
+                generateEnum(sb, propertyName, fieldToken, typeToken, sinceVersion, indent);
+                break;
+
+            case BEGIN_SET:
+                generateSet(sb, propertyName, typeToken, sinceVersion, indent);
+                break;
+
+            case BEGIN_COMPOSITE:
+                generateCompositeProperty(sb, propertyName, typeToken, sinceVersion, indent);
+                break;
+        }
+    }
+
+    private static final CSharpTemplate NOT_PRESENT_CONDITION = CSharpTemplate.compile(
+            "%i        if (_actingVersion < %d)\n" +
+            "%i        {\n" +
+            "%i            return %s;\n" +
+            "%i        }\n\n");
+
+    private static CharSequence generateNotPresentCondition(
+            final int sinceVersion, final String notPresentValue, final String indent) {
+        if (0 == sinceVersion) {
+            return "";
+        }
+
+        return NOT_PRESENT_CONDITION.render(indent, sinceVersion, notPresentValue);
+    }
+
+    private static final CSharpTemplate PROPERTY = CSharpTemplate.compile(
+            "\n" +
+            "%i    public %s %s()\n" +
+            "%i    {\n" +
+            "%s" +
+            "%i        return %s;\n" +
+            "%i    }\n");
+
+    private static void generateConstant(
+            final StringBuilder sb, final String propertyName, final Token token, final String indent) {
+        final Encoding encoding = token.encoding();
+        final PrimitiveType primitiveType = encoding.primitiveType();
+
+        if (token.arrayLength() > 1 || primitiveType == PrimitiveType.CHAR && encoding.constValue().size() > 1) {
+            if (primitiveType == PrimitiveType.CHAR) {
+                PROPERTY.appendTo(
+                        sb, indent, "string", propertyName, "", "\"" + encoding.constValue().toString() + "\"");
+            }
+
+            return;
+        }
+
+        PROPERTY.appendTo(
+                sb,
+                indent,
+                csharpTypeName(primitiveType),
+                propertyName,
+                "",
+                generateLiteral(primitiveType, encoding.constValue().toString()));
+    }
+
+    private static void generatePrimitive(
+            final StringBuilder sb,
+            final String propertyName,
+            final Token token,
+            final int sinceVersion,
+            final String indent) {
+        final Encoding encoding = token.encoding();
+        final PrimitiveType primitiveType = encoding.primitiveType();
+
+        PROPERTY.appendTo(
+                sb,
+                indent,
+                csharpTypeName(primitiveType),
+                propertyName,
+                generateNotPresentCondition(
+                        sinceVersion, generateLiteral(primitiveType, encoding.applicableNullValue().toString()), indent),
+                generateGet(primitiveType, "_buffer", "_offset + " + token.offset(), encoding.byteOrder()));
+    }
+
+    private static final CSharpTemplate ARRAY_ELEMENT = CSharpTemplate.compile(
+            "\n" +
+            "%i    public static int %1$sLength()\n" +
+            "%i    {\n" +
+            "%i        return %3$d;\n" +
+            "%i    }\n\n" +
+            "%i    public %2$s %1$s(int index)\n" +
+            "%i    {\n" +
+            "%i        if (index < 0 || index >= %3$d)\n" +
+            "%i        {\n" +
+            "%i            throw new IndexOutOfRangeException(\"index out of range: index=\" + index);\n" +
+            "%i        }\n\n" +
+            "%4$s" +
+            "%i        return %5$s;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate ARRAY_BYTES = CSharpTemplate.compile(
+            "\n" +
+            "%i    public ReadOnlySpan<byte> %sBytes()\n" +
+            "%i    {\n" +
+            "%s" +
+            "%i        return _buffer.Slice(_offset + %d, %d);\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate CHAR_ARRAY_STRING = CSharpTemplate.compile(
+            "\n" +
+            "%i    public string %1$s()\n" +
+            "%i    {\n" +
+            "%2$s" +
+            "%i        ReadOnlySpan<byte> bytes = _buffer.Slice(_offset + %3$d, %4$d);\n" +
+            "%i        int end = bytes.IndexOf((byte)0);\n\n" +
+            "%i        return %5$s.GetString(end < 0 ? bytes : bytes.Slice(0, end));\n" +
+            "%i    }\n");
+
+    private static void generateArray(
+            final StringBuilder sb,
+            final String propertyName,
+            final Token token,
+            final int sinceVersion,
+            final String indent) {
+        final Encoding encoding = token.encoding();
+        final PrimitiveType primitiveType = encoding.primitiveType();
+        final int arrayLength = token.arrayLength();
+        final int offset = token.offset();
+
+        ARRAY_ELEMENT.appendTo(
+                sb,
+                indent,
+                propertyName,
+                csharpTypeName(primitiveType),
+                arrayLength,
+                generateNotPresentCondition(
+                        sinceVersion, generateLiteral(primitiveType, encoding.applicableNullValue().toString()), indent),
+                generateGet(
+                        primitiveType,
+                        "_buffer",
+                        "_offset + " + offset + " + (index * " + primitiveType.size() + ")",
+                        encoding.byteOrder()));
+
+        ARRAY_BYTES.appendTo(
+                sb,
+                indent,
+                propertyName,
+                generateNotPresentCondition(sinceVersion, "ReadOnlySpan<byte>.Empty", indent),
+                offset,
+                token.encodedLength());
+
+        if (primitiveType == PrimitiveType.CHAR && null != encoding.characterEncoding()) {
+            CHAR_ARRAY_STRING.appendTo(
+                    sb,
+                    indent,
+                    propertyName,
+                    generateNotPresentCondition(sinceVersion, "\"\"", indent),
+                    offset,
+                    arrayLength,
+                    charset(encoding.characterEncoding()));
+        }
+    }
+
+    private void generateEnum(
+            final StringBuilder sb,
+            final String propertyName,
+            final Token fieldToken,
+            final Token typeToken,
+            final int sinceVersion,
+            final String indent) {
+        final String enumName = formatClassName(typeToken.applicableTypeName());
+        final Encoding encoding = typeToken.encoding();
+
+        if (fieldToken.isConstantEncoding()) {
+            PROPERTY.appendTo(
+                    sb, indent, enumName, propertyName, "", namespace + "." + fieldToken.encoding().constValue());
+            return;
+        }
+
+        PROPERTY.appendTo(
+                sb,
+                indent,
+                enumName,
+                propertyName,
+                generateNotPresentCondition(sinceVersion, namespace + "." + enumName + ".NULL_VALUE", indent),
+                "(" + enumName + ")" +
+                generateGet(encoding.primitiveType(), "_buffer", "_offset + " + typeToken.offset(), encoding.byteOrder()));
+    }
+
+    private void generateSet(
+            final StringBuilder sb,
+            final String propertyName,
+            final Token token,
+            final int sinceVersion,
+            final String indent) {
+        final PrimitiveType primitiveType = token.encoding().primitiveType();
+
+        PROPERTY.appendTo(
+                sb,
+                indent,
+                csharpTypeName(primitiveType),
+                propertyName,
+                generateNotPresentCondition(sinceVersion, "0", indent),
+                generateGet(primitiveType, "_buffer", "_offset + " + token.offset(), ir.byteOrder()));
+    }
+
+    private static void generateCompositeProperty(
+            final StringBuilder sb,
+            final String propertyName,
+            final Token token,
+            final int sinceVersion,
+            final String indent) {
+        final String compositeName = spanDecoderName(token.applicableTypeName());
+
+        PROPERTY.appendTo(
+                sb,
+                indent,
+                compositeName,
+                propertyName,
+                generateNotPresentCondition(sinceVersion, "default", indent),
+                "new " + compositeName + "(_buffer, _offset + " + token.offset() + ")");
+    }
+
+    private static final CSharpTemplate GROUP_PROPERTY = CSharpTemplate.compile(
+            "\n" +
+            "%i    public %1$s %2$s()\n" +
+            "%i    {\n" +
+            "%3$s" +
+            "%i        %1$s group = new %1$s(_buffer, _limit, _actingVersion);\n" +
+            "%i        _limit = %1$s.Skip(_buffer, _limit, _actingVersion);\n\n" +
+            "%i        return group;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate GROUP_DECLARATION = CSharpTemplate.compile(
+            "\n" +
+            "%ipublic ref struct %1$s\n" +
+            "%i{\n" +
+            "%i    public const int HEADER_SIZE = %2$d;\n\n" +
+            "%i    private readonly ReadOnlySpan<byte> _buffer;\n" +
+            "%i    private readonly int _actingVersion;\n" +
+            "%i    private readonly int _blockLength;\n" +
+            "%i    private readonly uint _count;\n" +
+            "%i    private int _index;\n" +
+            "%i    private int _offset;\n" +
+            "%i    private int _limit;\n" +
+            "%i    private int _next;\n" +
+            "%6$s\n" +
+            "%i    public %1$s(ReadOnlySpan<byte> buffer, int offset, int actingVersion)\n" +
+            "%i    {\n" +
+            "%i        _buffer = buffer;\n" +
+            "%i        _actingVersion = actingVersion;\n" +
+            "%i        _blockLength = (int)%3$s;\n" +
+            "%i        _count = (uint)%4$s;\n" +
+            "%i        _index = -1;\n" +
+            "%i        _offset = offset;\n" +
+            "%i        _limit = offset + HEADER_SIZE;\n" +
+            "%i        _next = _limit;\n" +
+            "%7$s" +
+            "%i    }\n\n" +
+            "%i    public static int SbeBlockLength()\n" +
+            "%i    {\n" +
+            "%i        return %5$d;\n" +
+            "%i    }\n\n" +
+            "%i    public int ActingBlockLength()\n" +
+            "%i    {\n" +
+            "%i        return _blockLength;\n" +
+            "%i    }\n\n" +
+            "%i    public long LongCount()\n" +
+            "%i    {\n" +
+            "%i        return _count;\n" +
+            "%i    }\n\n" +
+            "%i    public int Count()\n" +
+            "%i    {\n" +
+            "%i        if (_count > Int32.MaxValue)\n" +
+            "%i        {\n" +
+            "%i            throw new InvalidOperationException(\"count cannot be represented by a 32-bit int\");\n" +
+            "%i        }\n" +
+            "%i        return (int) _count;\n" +
+            "%i    }\n\n" +
+            "%i    public int Index()\n" +
+            "%i    {\n" +
+            "%i        return _index;\n" +
+            "%i    }\n\n" +
+            "%i    public int Limit()\n" +
+            "%i    {\n" +
+            "%i        return _limit;\n" +
+            "%i    }\n\n" +
+            "%i    public bool HasNext()\n" +
+            "%i    {\n" +
+            "%i        return (_index + 1) < _count;\n" +
+            "%i    }\n\n" +
+            "%i    public bool MoveNext()\n" +
+            "%i    {\n" +
+            "%i        if (_index + 1 >= _count)\n" +
+            "%i        {\n" +
+            "%i            return false;\n" +
+            "%i        }\n\n" +
+            "%i        _offset = _next;\n" +
+            "%i        _limit = _offset + _blockLength;\n" +
+            "%i        _next = SkipEntryTail(_buffer, _limit, _actingVersion);\n" +
+            "%i        ++_index;\n\n" +
+            "%i        return true;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate GROUP_ENTRIES_OFFSET_FIELD = CSharpTemplate.compile(
+            "%i    private readonly int _entriesOffset;\n");
+
+    private static final CSharpTemplate GROUP_ENTRIES_OFFSET_INIT = CSharpTemplate.compile(
+            "%i        _entriesOffset = _limit;\n");
+
+    private static final CSharpTemplate GROUP_AT = CSharpTemplate.compile(
+            "\n" +
+            "%i    /// <summary>\n" +
+            "%i    /// Move to the entry at <paramref name=\"index\"/> as if it had been reached with <see cref=\"MoveNext\"/>,\n" +
+            "%i    /// which then continues from the entry after it. The entries of the group have a fixed length so the entry\n" +
+            "%i    /// is found without reading those before it.\n" +
+            "%i    /// </summary>\n" +
+            "%i    public %1$s At(int index)\n" +
+            "%i    {\n" +
+            "%i        if ((uint)index >= _count)\n" +
+            "%i        {\n" +
+            "%i            throw new IndexOutOfRangeException();\n" +
+            "%i        }\n\n" +
+            "%i        _offset = _entriesOffset + (index * _blockLength);\n" +
+            "%i        _limit = _offset + _blockLength;\n" +
+            "%i        _next = _limit;\n" +
+            "%i        _index = index;\n\n" +
+            "%i        return this;\n" +
+            "%i    }\n\n" +
+            "%i    /// <summary>\n" +
+            "%i    /// A copy of the group positioned on the entry at <paramref name=\"index\"/>, leaving this one where it is.\n" +
+            "%i    /// </summary>\n" +
+            "%i    public %1$s this[int index]\n" +
+            "%i    {\n" +
+            "%i        get\n" +
+            "%i        {\n" +
+            "%i            %1$s entry = this;\n" +
+            "%i            return entry.At(index);\n" +
+            "%i        }\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate GROUP_SKIP_FIXED = CSharpTemplate.compile(
+            "\n" +
+            "%i    public static int Skip(ReadOnlySpan<byte> buffer, int offset, int actingVersion)\n" +
+            "%i    {\n" +
+            "%i        int blockLength = (int)%s;\n" +
+            "%i        uint count = (uint)%s;\n\n" +
+            "%i        return offset + HEADER_SIZE + (int)(count * blockLength);\n" +
+            "%i    }\n\n" +
+            "%i    private static int SkipEntryTail(ReadOnlySpan<byte> buffer, int limit, int actingVersion)\n" +
+            "%i    {\n" +
+            "%i        return limit;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate GROUP_SKIP = CSharpTemplate.compile(
+            "\n" +
+            "%i    public static int Skip(ReadOnlySpan<byte> buffer, int offset, int actingVersion)\n" +
+            "%i    {\n" +
+            "%i        int blockLength = (int)%s;\n" +
+            "%i        uint count = (uint)%s;\n" +
+            "%i        int limit = offset + HEADER_SIZE;\n" +
+            "%i        for (uint i = 0; i < count; i++)\n" +
+            "%i        {\n" +
+            "%i            limit = SkipEntryTail(buffer, limit + blockLength, actingVersion);\n" +
+            "%i        }\n\n" +
+            "%i        return limit;\n" +
+            "%i    }\n\n" +
+            "%i    private static int SkipEntryTail(ReadOnlySpan<byte> buffer, int limit, int actingVersion)\n" +
+            "%i    {\n" +
+            "%s" +
+            "%i        return limit;\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate SKIP_NESTED_GROUP = CSharpTemplate.compile(
+            "%i        limit = %s.Skip(buffer, limit, actingVersion);\n");
+
+    private static final CSharpTemplate SKIP_VAR_DATA = CSharpTemplate.compile(
+            "%i        limit += %d + (int)%s;\n");
+
+    private static final CSharpTemplate SINCE_VERSION_GUARD = CSharpTemplate.compile(
+            "%i        if (actingVersion >= %d)\n" +
+            "%i        {\n" +
+            "%s" +
+            "%i        }\n");
+
+    private void generateGroups(final Writer out, final List<Token> tokens, final String indent) throws IOException {
+        final StringBuilder sb = new StringBuilder();
+
+        for (int i = 0, size = tokens.size(); i < size; i++) {
+            final Token groupToken = tokens.get(i);
+            if (groupToken.signal() != Signal.BEGIN_GROUP) {
+                throw new IllegalStateException("tokens must begin with BEGIN_GROUP: token=" + groupToken);
+            }
+
+            final String groupName = spanDecoderName(groupToken.name());
+            final Token dimensionsToken = tokens.get(i + 1);
+            final Token blockLengthToken = tokens.get(i + 2);
+            final Token numInGroupToken = tokens.get(i + 3);
+
+            GROUP_PROPERTY.appendTo(
+                    sb,
+                    indent,
+                    groupName,
+                    formatPropertyName(groupToken.name()),
+                    generateNotPresentCondition(groupToken.version(), "default", indent));
+
+            final String innerIndent = indent + INDENT;
+
+            ++i;
+            i += tokens.get(i).componentTokenCount();
+
+            final List<Token> fields = new ArrayList<>();
+            i = collectFields(tokens, i, fields);
+
+            final List<Token> groups = new ArrayList<>();
+            i = collectGroups(tokens, i, groups);
+
+            final List<Token> varData = new ArrayList<>();
+            i = collectVarData(tokens, i, varData);
+
+            final String blockLengthGet = generateDimensionGet(blockLengthToken, "buffer", "offset");
+            final String numInGroupGet = generateDimensionGet(numInGroupToken, "buffer", "offset");
+            final boolean isFixedStride = groups.isEmpty() && varData.isEmpty();
+
+            GROUP_DECLARATION.appendTo(
+                    sb,
+                    innerIndent,
+                    groupName,
+                    dimensionsToken.encodedLength(),
+                    blockLengthGet,
+                    numInGroupGet,
+                    groupToken.encodedLength(),
+                    isFixedStride ? GROUP_ENTRIES_OFFSET_FIELD.render(innerIndent) : "",
+                    isFixedStride ? GROUP_ENTRIES_OFFSET_INIT.render(innerIndent) : "");
+
+            if (isFixedStride) {
+                GROUP_AT.appendTo(sb, innerIndent, groupName);
+                GROUP_SKIP_FIXED.appendTo(sb, innerIndent, blockLengthGet, numInGroupGet);
+            } else {
+                GROUP_SKIP.appendTo(
+                        sb, innerIndent, blockLengthGet, numInGroupGet, generateSkipEntryTail(groups, varData, innerIndent));
+            }
+
+            out.append(sb);
+            sb.setLength(0);
+
+            generateFields(out, fields, innerIndent);
+            generateGroups(out, groups, innerIndent);
+            generateVarData(out, varData, innerIndent);
+
+            out.append(innerIndent).append("}\n");
+        }
+    }
+
+    private static CharSequence generateSkipEntryTail(
+            final List<Token> groups, final List<Token> varData, final String indent) {
+        final StringBuilder sb = new StringBuilder();
+
+        for (int i = 0, size = groups.size(); i < size; i++) {
+            final Token groupToken = groups.get(i);
+            final int sinceVersion = groupToken.version();
+            appendSkip(
+                    sb,
+                    sinceVersion,
+                    SKIP_NESTED_GROUP.render(skipIndent(sinceVersion, indent), spanDecoderName(groupToken.name())),
+                    indent);
+
+            i = findEndSignal(groups, i, Signal.END_GROUP, groupToken.name());
+        }
+
+        for (int i = 0, size = varData.size(); i < size; ) {
+            final Token varDataToken = varData.get(i);
+            final Token lengthToken = varData.get(i + 2);
+            final Encoding lengthEncoding = lengthToken.encoding();
+
+            final int sinceVersion = varDataToken.version();
+            appendSkip(
+                    sb,
+                    sinceVersion,
+                    SKIP_VAR_DATA.render(
+                            skipIndent(sinceVersion, indent),
+                            lengthToken.encodedLength(),
+                            generateGet(lengthEncoding.primitiveType(), "buffer", "limit", lengthEncoding.byteOrder())),
+                    indent);
+
+            i += varDataToken.componentTokenCount();
+        }
+
+        return sb;
+    }
+
+    private static String skipIndent(final int sinceVersion, final String indent) {
+        return 0 == sinceVersion ? indent : indent + INDENT;
+    }
+
+    private static void appendSkip(
+            final StringBuilder sb, final int sinceVersion, final CharSequence skip, final String indent) {
+        if (0 == sinceVersion) {
+            sb.append(skip);
+        } else {
+            SINCE_VERSION_GUARD.appendTo(sb, indent, sinceVersion, skip);
+        }
+    }
+
+    private static String generateDimensionGet(final Token token, final String buffer, final String offset) {
+        final Encoding encoding = token.encoding();
+
+        return generateGet(encoding.primitiveType(), buffer, offset + " + " + token.offset(), encoding.byteOrder());
+    }
+
+    private static final CSharpTemplate VAR_DATA = CSharpTemplate.compile(
+            "\n" +
+            "%i    public int %1$sLength()\n" +
+            "%i    {\n" +
+            "%2$s" +
+            "%i        return (int)%3$s;\n" +
+            "%i    }\n\n" +
+            "%i    public ReadOnlySpan<byte> %1$sBytes()\n" +
+            "%i    {\n" +
+            "%4$s" +
+            "%i        int headerLength = %5$d;\n" +
+            "%i        int limit = _limit;\n" +
+            "%i        int dataLength = (int)%3$s;\n" +
+            "%i        _limit = limit + headerLength + dataLength;\n\n" +
+            "%i        return _buffer.Slice(limit + headerLength, dataLength);\n" +
+            "%i    }\n");
+
+    private static final CSharpTemplate VAR_DATA_STRING = CSharpTemplate.compile(
+            "\n" +
+            "%i    public string %s()\n" +
+            "%i    {\n" +
+            "%i        return %s.GetString(%sBytes());\n" +
+            "%i    }\n");
+
+    private void generateVarData(final Writer out, final List<Token> tokens, final String indent) throws IOException {
+        final StringBuilder sb = new StringBuilder();
+
+        for (int i = 0, size = tokens.size(); i < size; ) {
+            final Token token = tokens.get(i);
+            if (token.signal() != Signal.BEGIN_VAR_DATA) {
+                throw new IllegalStateException("tokens must begin with BEGIN_VAR_DATA: token=" + token);
+            }
+
+            final String propertyName = formatPropertyName(token.name());
+            final Token lengthToken = tokens.get(i + 2);
+            final Encoding lengthEncoding = lengthToken.encoding();
+            final String characterEncoding = tokens.get(i + 3).encoding().characterEncoding();
+
+            VAR_DATA.appendTo(
+                    sb,
+                    indent,
+                    propertyName,
+                    generateNotPresentCondition(token.version(), "0", indent),
+                    generateGet(lengthEncoding.primitiveType(), "_buffer", "_limit", lengthEncoding.byteOrder()),
+                    generateNotPresentCondition(token.version(), "ReadOnlySpan<byte>.Empty", indent),
+                    lengthToken.encodedLength());
+
+            if (null != characterEncoding) {
+                VAR_DATA_STRING.appendTo(sb, indent, propertyName, charset(characterEncoding), propertyName);
+            }
+
+            out.append(sb);
+            sb.setLength(0);
+
+            i += token.componentTokenCount();
+        }
+    }
+
+    static String generateGet(
+            final PrimitiveType type, final String buffer, final String index, final ByteOrder byteOrder) {
+        final String endian = byteOrder == ByteOrder.BIG_ENDIAN ? "BigEndian" : "LittleEndian";
+
+        switch (type) {
+            case INT8:
+                return "unchecked((sbyte)" + buffer + "[" + index + "])";
+
+            case CHAR:
+            case UINT8:
+                return buffer + "[" + index + "]";
+
+            case INT16:
+                return "BinaryPrimitives.ReadInt16" + endian + "(" + buffer + ".Slice(" + index + "))";
+
+            case UINT16:
+                return "BinaryPrimitives.ReadUInt16" + endian + "(" + buffer + ".Slice(" + index + "))";
+
+            case INT32:
+                return "BinaryPrimitives.ReadInt32" + endian + "(" + buffer + ".Slice(" + index + "))";
+
+            case UINT32:
+                return "BinaryPrimitives.ReadUInt32" + endian + "(" + buffer + ".Slice(" + index + "))";
+
+            case FLOAT:
+                return "BitConverter.Int32BitsToSingle(" +
+                        "BinaryPrimitives.ReadInt32" + endian + "(" + buffer + ".Slice(" + index + ")))";
+
+            case INT64:
+                return "BinaryPrimitives.ReadInt64" + endian + "(" + buffer + ".Slice(" + index + "))";
+
+            case UINT64:
+                return "BinaryPrimitives.ReadUInt64" + endian + "(" + buffer + ".Slice(" + index + "))";
+
+            case DOUBLE:
+                return "BitConverter.Int64BitsToDouble(" +
+                        "BinaryPrimitives.ReadInt64" + endian + "(" + buffer + ".Slice(" + index + ")))";
+        }
+
+        throw new IllegalArgumentException("primitive type not supported: " + type);
+    }
+}
@@ -0,0 +1,166 @@
+package sbe.generation.csharp;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Template for a fragment of generated code which is parsed once and can then be appended many times.
+ * <p>
+ * The syntax is the subset of {@link java.util.Formatter} used by the generator: {@code %s} and {@code %d} append the
+ * next argument, {@code %n$s} and {@code %n$d} append argument n, and {@code %%} appends a percent sign. In addition
+ * {@code %i} appends the indent supplied when the template is appended, which saves concatenating the indent into the
+ * template for every line. Arguments are appended as by {@link String#valueOf(Object)}.
+ */
+public final class CSharpTemplate {
+    private static final int INDENT_SLOT = -1;
+
+    private final String[] literals;
+    private final int[] slots;
+    private final int argumentCount;
+    private final int literalLength;
+
+    private CSharpTemplate(final String[] literals, final int[] slots, final int argumentCount) {
+        this.literals = literals;
+        this.slots = slots;
+        this.argumentCount = argumentCount;
+
+        int length = 0;
+        for (final String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Parse a template.
+     *
+     * @param template to be parsed.
+     * @return the parsed template.
+     * @throws IllegalArgumentException if the template contains an unsupported conversion.
+     */
+    public static CSharpTemplate compile(final String template) {
+        final List<String> literals = new ArrayList<>();
+        final List<Integer> slots = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        int nextArgument = 0;
+        int argumentCount = 0;
+
+        for (int i = 0, length = template.length(); i < length; i++) {
+            final char c = template.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                continue;
+            }
+
+            if (++i == length) {
+                throw new IllegalArgumentException("template ends with '%': " + template);
+            }
+
+            char conversion = template.charAt(i);
+            if (conversion == '%') {
+                literal.append('%');
+                continue;
+            }
+
+            final int slot;
+            if (conversion == 'i') {
+                slot = INDENT_SLOT;
+            } else {
+                if (Character.isDigit(conversion)) {
+                    int position = 0;
+                    while (i < length && Character.isDigit(template.charAt(i))) {
+                        position = (position * 10) + (template.charAt(i++) - '0');
+                    }
+
+                    if (position < 1 || i + 1 >= length || template.charAt(i) != '$') {
+                        throw new IllegalArgumentException("invalid argument position at " + i + ": " + template);
+                    }
+
+                    conversion = template.charAt(++i);
+                    slot = position - 1;
+                } else {
+                    slot = nextArgument++;
+                }
+
+                if (conversion != 's' && conversion != 'd') {
+                    throw new IllegalArgumentException("unsupported conversion '" + conversion + "': " + template);
+                }
+
+                argumentCount = Math.max(argumentCount, slot + 1);
+            }
+
+            literals.add(literal.toString());
+            slots.add(slot);
+            literal.setLength(0);
+        }
+
+        literals.add(literal.toString());
+
+        final int[] slotArray = new int[slots.size()];
+        for (int i = 0; i < slotArray.length; i++) {
+            slotArray[i] = slots.get(i);
+        }
+
+        return new CSharpTemplate(literals.toArray(new String[0]), slotArray, argumentCount);
+    }
+
+    /**
+     * Append the template to a {@link StringBuilder}.
+     *
+     * @param sb     to append to.
+     * @param indent to be appended for each {@code %i}.
+     * @param args   to be appended for the argument conversions.
+     * @return the {@link StringBuilder} for fluent use.
+     * @throws IllegalArgumentException if fewer arguments are supplied than the template references.
+     */
+    public StringBuilder appendTo(final StringBuilder sb, final String indent, final Object... args) {
+        checkArguments(args);
+
+        for (int i = 0; i < slots.length; i++) {
+            appendLiteral(sb, literals[i]);
+
+            final int slot = slots[i];
+            if (INDENT_SLOT == slot) {
+                sb.append(indent);
+            } else {
+                appendArgument(sb, args[slot]);
+            }
+        }
+        appendLiteral(sb, literals[slots.length]);
+
+        return sb;
+    }
+
+    /**
+     * Append the template to a new {@link StringBuilder}.
+     *
+     * @param indent to be appended for each {@code %i}.
+     * @param args   to be appended for the argument conversions.
+     * @return the {@link StringBuilder} holding the generated code.
+     * @throws IllegalArgumentException if fewer arguments are supplied than the template references.
+     */
+    public StringBuilder render(final String indent, final Object... args) {
+        return appendTo(new StringBuilder(literalLength + 64), indent, args);
+    }
+
+    private void checkArguments(final Object[] args) {
+        if (args.length < argumentCount) {
+            throw new IllegalArgumentException(
+                    "template requires " + argumentCount + " arguments but was given " + args.length);
+        }
+    }
+
+    private static void appendLiteral(final StringBuilder sb, final String literal) {
+        if (!literal.isEmpty()) {
+            sb.append(literal);
+        }
+    }
+
+    private static void appendArgument(final StringBuilder sb, final Object arg) {
+        if (arg instanceof CharSequence) {
+            sb.append((CharSequence) arg);
+        } else {
+            sb.append(arg);
+        }
+    }
+}